@@ -0,0 +1,80 @@
+-- V10 마이그레이션(created_at 타입, 인덱스) 전/후 실행 계획 비교용 (MySQL 8.0.18+ EXPLAIN ANALYZE).
+-- 같은 데이터로 마이그레이션 전에 한 번, 후에 한 번 실행해서 접근 방식(type/key)과 실제 시간을 비교한다.
+--   (V9 까지 적용된 상태, 예: flyway -target=9 migrate)
+--   mysql -t information < db/benchmark/access_paths.sql > plans-before.txt
+--   (V10 적용)
+--   mysql -t information < db/benchmark/access_paths.sql > plans-after.txt
+-- 아직 실행한 적이 없다. 새 인덱스가 아래 경로에 실제로 쓰이는지는 두 결과 파일로 확인해야 한다
+
+-- 카테고리는 드라이버가 값을 쿼리에 채워 보내는 것(클라이언트 prepared statement)과 같게 리터럴로 적는다.
+SET @language = 'EN';
+SET @user_id = 1;
+SET @since = (SELECT MAX(created_at) FROM information) - INTERVAL 7 DAY;
+
+-- InformationRepository.findIdsByCategory (카테고리 최신순 페이지)
+EXPLAIN ANALYZE
+SELECT i.information_id
+FROM information i
+WHERE ('음식' = '전체' OR i.category = '음식')
+ORDER BY i.created_at DESC
+LIMIT 20 OFFSET 0;
+
+-- 같은 쿼리 조회수순
+EXPLAIN ANALYZE
+SELECT i.information_id
+FROM information i
+WHERE ('음식' = '전체' OR i.category = '음식')
+ORDER BY i.views DESC
+LIMIT 20 OFFSET 0;
+
+-- TranslatedInformationRepository.findLatestSummariesBefore (커서 첫 페이지)
+EXPLAIN ANALYZE
+SELECT i.information_id, i.category, i.views, i.created_at, u.name, ti.title, ti.excerpt, ti.word_count
+FROM translated_information ti
+         JOIN information i ON i.information_id = ti.information_id
+         JOIN user u ON u.user_id = i.user_id
+WHERE ti.language = @language
+  AND ('음식' = '전체' OR i.category = '음식')
+  AND i.created_at <= '9999-12-31 23:59:59'
+ORDER BY i.created_at DESC, i.information_id DESC
+LIMIT 21;
+
+-- TranslatedInformationRepository.findSummariesByLanguageAndInformationIdIn (페이지 조립)
+EXPLAIN ANALYZE
+SELECT i.information_id, ti.title, ti.excerpt
+FROM translated_information ti
+         JOIN information i ON i.information_id = ti.information_id
+WHERE ti.language = @language
+  AND ti.information_id IN (SELECT information_id FROM (SELECT information_id
+                                                         FROM information
+                                                         ORDER BY created_at DESC
+                                                         LIMIT 20) recent);
+
+-- TranslatedInformationRepository.findByInformation_InformationIdAndLanguage (상세)
+EXPLAIN ANALYZE
+SELECT *
+FROM translated_information ti
+WHERE ti.information_id = (SELECT MAX(information_id) FROM information)
+  AND ti.language = @language;
+
+-- TranslatedInformationRepository.findRecentTranslations (추천 후보 풀 적재)
+EXPLAIN ANALYZE
+SELECT i.information_id, i.category, ti.language, i.created_at
+FROM translated_information ti
+         JOIN information i ON i.information_id = ti.information_id
+WHERE i.created_at >= @since;
+
+-- BookmarkRepository.findByInformation_InformationIdAndUser_UserId (북마크 토글)
+EXPLAIN ANALYZE
+SELECT *
+FROM bookmark b
+WHERE b.information_id = (SELECT MAX(information_id) FROM information)
+  AND b.user_id = @user_id;
+
+-- InformationRepository.findIdsByBookmarkingAndUser_UserId (내 북마크 목록)
+EXPLAIN ANALYZE
+SELECT i.information_id
+FROM information i
+         JOIN bookmark b ON i.information_id = b.information_id
+WHERE b.user_id = @user_id
+LIMIT 20 OFFSET 0;
@@ -0,0 +1,30 @@
+package com.information.controller;
+
+import com.information.service.BackfillService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/information/backfill")
+@RequiredArgsConstructor
+public class BackfillController {
+    private final BackfillService backfillService;
+
+    @PostMapping // 언어 추가 후 기존 글 번역 채우기 (관리자)
+    public ResponseEntity<?> start(@RequestHeader("Authorization") String token, String language) {
+        return backfillService.start(token, language);
+    }
+
+    @GetMapping("/{backfillId}") // 진행 상황
+    public ResponseEntity<?> getProgress(@RequestHeader("Authorization") String token,
+                                         @PathVariable long backfillId) {
+        return backfillService.getProgress(token, backfillId);
+    }
+
+    @DeleteMapping("/{backfillId}") // 취소
+    public ResponseEntity<?> cancel(@RequestHeader("Authorization") String token,
+                                    @PathVariable long backfillId) {
+        return backfillService.cancel(token, backfillId);
+    }
+}
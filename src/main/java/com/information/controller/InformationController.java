@@ -3,11 +3,14 @@ package com.information.controller;
 import com.information.dto.InformationReqDto;
 import com.information.service.InformationService;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+
 @RestController
 @RequestMapping("/information")
 @RequiredArgsConstructor
@@ -30,16 +33,24 @@ public class InformationController {
         return informationService.deleteFile(url);
     }
 
-    @GetMapping // 정보글 목록 조회
+    @GetMapping // 정보글 목록 조회. cursor 를 넘기면(첫 페이지는 빈 값) 커서 방식
     public ResponseEntity<?> getInformationList(@RequestHeader("Authorization") String token,
-                                            int page, int size, String category, String sort) {
+                                            @RequestParam(defaultValue = "0") int page, int size, String category, String sort,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (cursor != null) {
+            return informationService.getInformationListByCursor(token, cursor, size, category, sort, withTotal);
+        }
         return informationService.getInformationList(token, page, size, category, sort);
     }
 
     @GetMapping("/{informationId}")  // 정보글 상세 조회
     public ResponseEntity<?> getInformation(@RequestHeader("Authorization") String token,
-                                            @PathVariable long informationId) {
-        return informationService.getInformation(token, informationId);
+                                            @PathVariable long informationId,
+                                            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+                                            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding,
+                                            HttpServletResponse response) throws IOException {
+        return informationService.getInformation(token, informationId, ifNoneMatch, acceptEncoding, response);
     }
 
     @DeleteMapping("/{informationId}") // 정보글 삭제
@@ -63,7 +74,12 @@ public class InformationController {
 
     @GetMapping("/search")
     public ResponseEntity<?> searchInformation(@RequestHeader("Authorization") String token,
-                                               String keyword, int page, int size, String category, String sort){
+                                               String keyword, @RequestParam(defaultValue = "0") int page, int size, String category, String sort,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "false") boolean withTotal){
+        if (cursor != null) {
+            return informationService.searchInformationByCursor(token, keyword, cursor, size, category, sort, withTotal);
+        }
         return informationService.searchInformation(token, keyword, page, size, category, sort);
     }
 
@@ -0,0 +1,17 @@
+package com.information.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인 재구축/따라잡기용 프로젝션
+ */
+public interface IndexedTranslation {
+    Long getTranslatedInformationId();
+    Long getInformationId();
+    String getLanguage();
+    String getCategory();
+    Long getViews();
+    String getTitle();
+    String getContent();
+    LocalDateTime getUpdatedAt();
+}
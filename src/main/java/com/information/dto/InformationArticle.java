@@ -0,0 +1,9 @@
+package com.information.dto;
+
+/**
+ * 상세 조회용으로 조립한 게시글 (언어별). 조회수와 북마크 여부는 사용자/시점마다 달라서 따로 붙인다.
+ * version 은 게시글을 읽을 때의 내용 버전 (ETag)
+ */
+public record InformationArticle(Long informationId, String category, String title, String content,
+                                 String userName, String createdAt, long version) {
+}
@@ -14,12 +14,15 @@ public class InformationResDto {
     Long isState;
     String title;
     String content;
+    String excerpt;     // 목록 응답은 본문 대신 요약만
+    Integer wordCount;
     String userName;
     String createdAt;
     String category;
 
     @Builder
-    public InformationResDto(String category, String createdAt, String userName, String content, String title, Long isState, Long views, Long informationId) {
+    public InformationResDto(String category, String createdAt, String userName, String content, String title, Long isState, Long views, Long informationId,
+                             String excerpt, Integer wordCount) {
         this.category = category;
         this.createdAt = createdAt;
         this.userName = userName;
@@ -28,5 +31,7 @@ public class InformationResDto {
         this.isState = isState;
         this.views = views;
         this.informationId = informationId;
+        this.excerpt = excerpt;
+        this.wordCount = wordCount;
     }
 }
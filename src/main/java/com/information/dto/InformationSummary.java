@@ -0,0 +1,18 @@
+package com.information.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용 프로젝션. 본문(content) 컬럼은 읽지 않는다
+ */
+public interface InformationSummary {
+    Long getInformationId();
+    String getCategory();
+    Long getViews();
+    LocalDateTime getCreatedAt();
+    String getUserName();
+    String getTitle();
+    String getExcerpt();
+    Integer getWordCount();
+    Long getContentVersion();
+}
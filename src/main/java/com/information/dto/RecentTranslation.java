@@ -0,0 +1,14 @@
+package com.information.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 후보 풀 적재/따라잡기용 프로젝션
+ */
+public interface RecentTranslation {
+    Long getInformationId();
+    String getCategory();
+    String getLanguage();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
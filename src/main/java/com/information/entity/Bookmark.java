@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "bookmark")
+@Table(name = "bookmark",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bookmark_user_information",
+                columnNames = {"user_id", "information_id"}))
 @NoArgsConstructor
 public class Bookmark {
     @Id
@@ -9,7 +9,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "information")
+@Table(name = "information", indexes = {
+        @Index(name = "idx_information_category_created_at", columnList = "category, created_at"),
+        @Index(name = "idx_information_category_views", columnList = "category, views"),
+        @Index(name = "idx_information_created_at", columnList = "created_at"),
+        @Index(name = "idx_information_views", columnList = "views")
+})
 @NoArgsConstructor
 public class Information {
     @Id
@@ -20,17 +25,22 @@ public class Information {
     @JoinColumn(name = "user_id")
     private User user;
 
-    private String createdAt;
+    @Column(columnDefinition = "DATETIME(6)")
+    private LocalDateTime createdAt;
     private Long views;
     private String category;
 
+    // 내용 버전 (ETag 용). 수정/번역 저장 때 DB에서 1씩 올리고, 엔티티 저장으로는 덮어쓰지 않는다
+    @Column(columnDefinition = "bigint not null default 0", insertable = false, updatable = false)
+    private Long contentVersion;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now().toString();
+        this.createdAt = LocalDateTime.now();
     }
 
     @Builder
-    public Information(Long informationId, User user, String createdAt, Long views, String category) {
+    public Information(Long informationId, User user, LocalDateTime createdAt, Long views, String category) {
         this.informationId = informationId;
         this.user = user;
         this.createdAt = createdAt;
@@ -4,10 +4,19 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import util.RichContentText;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "translated_information")
+@Table(name = "translated_information",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translated_information_information_language",
+                columnNames = {"information_id", "language"}),
+        indexes = {
+                @Index(name = "idx_translated_information_language", columnList = "language, information_id"),
+                @Index(name = "idx_translated_information_updated_at", columnList = "updated_at, translated_information_id")
+        })
 @NoArgsConstructor
 public class TranslatedInformation {
     @Id
@@ -23,12 +32,42 @@ public class TranslatedInformation {
     private String content;
     private String language;
 
+    // 목록 미리보기용 평문 요약, 저장 시 본문에서 만든다
+    @Column(length = 300)
+    private String excerpt;
+    private Integer wordCount;
+
+    // 이 번역을 만들 때 사용한 원문(KO). 수정 시 바뀐 부분만 다시 번역하기 위함
+    private String sourceTitle;
+    @Column(columnDefinition = "TEXT")
+    private String sourceContent;
+
+    // 다른 인스턴스의 검색 색인이 바뀐 행만 다시 읽는 기준
+    @Column(columnDefinition = "DATETIME(6)")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    public void beforeSave() {
+        this.updatedAt = LocalDateTime.now();
+        updateExcerpt();
+    }
+
+    public void updateExcerpt() {
+        String plainText = RichContentText.plainText(content);
+        this.excerpt = RichContentText.excerpt(plainText, 200);
+        this.wordCount = RichContentText.wordCount(plainText, language);
+    }
+
     @Builder
-    public TranslatedInformation(Long translatedInformationId, Information information, String title, String content, String language) {
+    public TranslatedInformation(Long translatedInformationId, Information information, String title, String content, String language,
+                                 String sourceTitle, String sourceContent) {
         this.translatedInformationId = translatedInformationId;
         this.information = information;
         this.title = title;
         this.content = content;
         this.language = language;
+        this.sourceTitle = sourceTitle;
+        this.sourceContent = sourceContent;
     }
 }
@@ -0,0 +1,61 @@
+package com.information.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "translation_backfill")
+@NoArgsConstructor
+public class TranslationBackfill {
+    public enum Status {
+        RUNNING,
+        COMPLETED, // 전체 스캔 후 대기열에 넣은 번역까지 모두 끝남
+        CANCELLED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long backfillId;
+
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private Long lastInformationId; // 여기까지 스캔함 (재시작 시 이어서)
+    private boolean scanFinished;
+
+    private long totalInformation; // 시작 시점 전체 게시글 수
+    private long scanned;
+    private long enqueued;          // 번역 대기열에 넣은 수
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public TranslationBackfill(Long backfillId, String language, Status status, Long lastInformationId,
+                               long totalInformation) {
+        this.backfillId = backfillId;
+        this.language = language;
+        this.status = status;
+        this.lastInformationId = lastInformationId;
+        this.totalInformation = totalInformation;
+    }
+}
@@ -0,0 +1,39 @@
+package com.information.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "translation_memory")
+@NoArgsConstructor
+public class TranslationMemory {
+    @Id
+    @Column(length = 64)
+    private String sourceHash; // sha-256(원문, 원문 언어, 대상 언어)
+
+    private String sourceLang;
+    private String targetLang;
+
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public TranslationMemory(String sourceHash, String sourceLang, String targetLang, String translatedText) {
+        this.sourceHash = sourceHash;
+        this.sourceLang = sourceLang;
+        this.targetLang = targetLang;
+        this.translatedText = translatedText;
+    }
+}
@@ -0,0 +1,88 @@
+package com.information.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "translation_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translation_outbox_information_language",
+                columnNames = {"information_id", "language"}),
+        indexes = @Index(name = "idx_translation_outbox_status_lane_next_attempt",
+                columnList = "status, lane, next_attempt_at"))
+@NoArgsConstructor
+public class TranslationOutbox {
+    public enum Status {
+        PENDING,     // 대기
+        IN_PROGRESS, // 워커가 가져감
+        DONE,        // 번역 저장 완료
+        FAILED,      // 실패, nextAttemptAt 이후 재시도
+        DEAD         // 재시도 횟수 초과
+    }
+
+    // 우선순위 레인. 앞에 있을수록 먼저 처리하되 뒤 레인도 일정 비율은 항상 처리한다
+    public enum Lane {
+        NEW,      // 새 게시글
+        EDIT,     // 수정
+        BACKFILL  // 일괄 재번역
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(name = "information_id")
+    private Long informationId;
+
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    private Lane lane;
+
+    private long revision; // 요청이 들어올 때마다 증가. 처리 중에 새 요청이 오면 완료 후 다시 처리
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime enqueuedAt; // 마지막 작성/수정 요청 시각 (전체 소요 시간 측정용)
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    public void prePersist() {
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Builder
+    public TranslationOutbox(Long outboxId, Long informationId, String language, Status status, Lane lane,
+                             int attempts, LocalDateTime nextAttemptAt) {
+        this.outboxId = outboxId;
+        this.informationId = informationId;
+        this.language = language;
+        this.status = status;
+        this.lane = lane;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
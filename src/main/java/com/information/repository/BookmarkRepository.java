@@ -2,12 +2,18 @@ package com.information.repository;
 
 import com.information.entity.Bookmark;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
-    long countByInformation_InformationIdAndUser_UserId(Long informationId, Long userId);
-
     Bookmark findByInformation_InformationIdAndUser_UserId(long informationId, Long userId);
+
+    // 북마크 캐시 적재용. 사용자가 북마크한 게시글 id 전체
+    @Query("select b.information.informationId from Bookmark b where b.user.userId = :userId")
+    List<Long> findInformationIdsByUserId(@Param("userId") Long userId);
 }
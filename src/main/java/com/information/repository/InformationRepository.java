@@ -1,25 +1,58 @@
 package com.information.repository;
 
 import com.information.entity.Information;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface InformationRepository extends JpaRepository<Information, Long> {
 
-    @Query("SELECT i FROM Information i WHERE " +
+    // 목록 페이지용. 내용은 id 로 한 번에 조립, total 은 InformationCountService 카운터
+    @Query("SELECT i.informationId FROM Information i WHERE " +
     "(:category = '전체' OR i.category = :category)")
-    Page<Information> findByCategory(
+    List<Long> findIdsByCategory(
             @Param("category") String category,
             Pageable pageable);
 
-    @Query("select i from Information i " +
+    @Query("select i.informationId from Information i " +
             "join Bookmark b on i.informationId = b.information.informationId " +
             "where b.user.userId = :userId")
-    Page<Information> findByBookmarkingAndUser_UserId(
+    List<Long> findIdsByBookmarkingAndUser_UserId(
             @Param("userId") long userId, Pageable pageable);
+
+    // 검색 색인 맞추기용. id 순으로 조금씩 [informationId, views]
+    @Query("select i.informationId, i.views from Information i " +
+            "where i.informationId > :after order by i.informationId")
+    List<Object[]> findIdsAndViewsAfter(@Param("after") long after, Pageable pageable);
+
+    // 추천 후보 풀에서 지워진 글을 빼기 위한 최근 글 id
+    @Query("select i.informationId from Information i where i.createdAt >= :since")
+    List<Long> findIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    // 조회수만. 미반영 증가분은 ViewCountService 에서 더한다
+    @Query("select i.views from Information i where i.informationId = :informationId")
+    Long findViewsByInformationId(@Param("informationId") long informationId);
+
+    // AI 선호도를 받지 못했을 때 쓰는 인기 카테고리
+    @Query("select i.category, sum(i.views) from Information i group by i.category")
+    List<Object[]> sumViewsByCategory();
+
+    // 내용이 바뀔 때마다 (수정, 언어별 번역 저장)
+    @Transactional
+    @Modifying
+    @Query("update Information i set i.contentVersion = i.contentVersion + 1 where i.informationId = :informationId")
+    int incrementContentVersion(@Param("informationId") long informationId);
+
+    // 키셋 순회용. id 순으로 after 다음부터 pageable 크기만큼
+    @Query("select i.informationId from Information i " +
+            "where i.informationId > :after order by i.informationId")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
 }
@@ -1,41 +1,137 @@
 package com.information.repository;
 
+import com.information.dto.IndexedTranslation;
+import com.information.dto.InformationSummary;
+import com.information.dto.RecentTranslation;
 import com.information.entity.TranslatedInformation;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface TranslatedInformationRepository extends JpaRepository<TranslatedInformation, Long> {
+    // 목록 요약 프로젝션. 본문은 읽지 않는다
+    String SUMMARY_SELECT = "select i.informationId as informationId, i.category as category, i.views as views, " +
+            "i.createdAt as createdAt, u.name as userName, " +
+            "ti.title as title, ti.excerpt as excerpt, ti.wordCount as wordCount, " +
+            "i.contentVersion as contentVersion " +
+            "from TranslatedInformation ti join ti.information i join i.user u ";
+
     TranslatedInformation findByInformation_InformationIdAndLanguage(Long informationId, String language);
 
-    @Query("select ti from TranslatedInformation ti " +
-            "where (:category = '전체' or ti.information.category = :category) "+
+    String INDEX_SELECT = "select ti.translatedInformationId as translatedInformationId, i.informationId as informationId, " +
+            "ti.language as language, i.category as category, i.views as views, " +
+            "ti.title as title, ti.content as content, ti.updatedAt as updatedAt " +
+            "from TranslatedInformation ti join ti.information i ";
+
+    // 검색 색인 재구축용. 번역 행 id 순으로 조금씩
+    @Query(INDEX_SELECT + "where ti.translatedInformationId > :after order by ti.translatedInformationId")
+    List<IndexedTranslation> findIndexRowsAfter(@Param("after") long after, Pageable pageable);
+
+    // 검색 색인 따라잡기용. (updatedAt, id) 순으로 since 이후에 저장된 행을 조금씩
+    @Query(INDEX_SELECT + "where ti.updatedAt > :since " +
+            "or (ti.updatedAt = :since and ti.translatedInformationId > :after) " +
+            "order by ti.updatedAt, ti.translatedInformationId")
+    List<IndexedTranslation> findIndexRowsUpdatedSince(@Param("since") LocalDateTime since,
+                                                       @Param("after") long after,
+                                                       Pageable pageable);
+
+    // 요약이 없는 기존 행 채우기용
+    List<TranslatedInformation> findTop200ByExcerptIsNullAndContentIsNotNull();
+
+    // 요약 컬럼만 채운다. 그 사이 저장된 번역(이미 요약이 있는 행)은 덮어쓰지 않음
+    @Transactional
+    @Modifying
+    @Query("update TranslatedInformation ti set ti.excerpt = :excerpt, ti.wordCount = :wordCount " +
+            "where ti.translatedInformationId = :translatedInformationId and ti.excerpt is null")
+    int fillExcerpt(@Param("translatedInformationId") long translatedInformationId,
+                    @Param("excerpt") String excerpt,
+                    @Param("wordCount") int wordCount);
+
+    // 목록 조립용. 게시글과 작성자까지 한 번에, 본문은 제외
+    @Query(SUMMARY_SELECT +
+            "where ti.language = :language and i.informationId in :informationIds")
+    List<InformationSummary> findSummariesByLanguageAndInformationIdIn(
+            @Param("language") String language,
+            @Param("informationIds") List<Long> informationIds);
+
+    @Query("select ti.information.informationId from TranslatedInformation ti " +
+            "where ti.language = :language and ti.information.informationId in :informationIds")
+    List<Long> findInformationIdsByLanguageAndInformationIdIn(
+            @Param("language") String language,
+            @Param("informationIds") List<Long> informationIds);
+
+    // 색인 준비 전 검색. total 은 따로 (카운터 또는 캐시된 count)
+    @Query(SUMMARY_SELECT +
+            "where (:category = '전체' or i.category = :category) "+
             "and ti.language = :language " +
             "and ti.title like concat('%', :keyword, '%')")
-    Page<TranslatedInformation> findByLanguageAndCategoryAndTitle(
+    List<InformationSummary> findByLanguageAndCategoryAndTitle(
             @Param("language") String language,
             @Param("category") String category,
             @Param("keyword") String keyword,
             Pageable pageable);
 
-    @Query(value =
-            "select ti.* from translated_information ti " +
-                    "join information i on i.information_id = ti.information_id " +
-                    "where i.category = :category " +
-                    "and i.created_at >= :sevenDaysAgo " +
-                    "and ti.language = :language " +
-                    "order by rand() " +
-                    "limit :i"
-            , nativeQuery = true)
-    List<TranslatedInformation> findRandomByTagAndLanguageAndRecentDayAndCount(
+    /*
+     * 커서 페이지. (정렬 값, id) 가 커서보다 작은 것부터 읽어서 깊은 페이지도 OFFSET 없이 바로 찾는다.
+     * keyword 가 null 이면 목록, 있으면 제목 검색
+     */
+    @Query(SUMMARY_SELECT +
+            "where ti.language = :language " +
+            "and (:category = '전체' or i.category = :category) " +
+            "and (:keyword is null or ti.title like concat('%', :keyword, '%')) " +
+            "and i.createdAt <= :createdAt " +
+            "and (i.createdAt < :createdAt or i.informationId < :informationId) " +
+            "order by i.createdAt desc, i.informationId desc")
+    List<InformationSummary> findLatestSummariesBefore(
+            @Param("language") String language,
             @Param("category") String category,
+            @Param("keyword") String keyword,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("informationId") long informationId,
+            Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "where ti.language = :language " +
+            "and (:category = '전체' or i.category = :category) " +
+            "and (:keyword is null or ti.title like concat('%', :keyword, '%')) " +
+            "and i.views <= :views " +
+            "and (i.views < :views or i.informationId < :informationId) " +
+            "order by i.views desc, i.informationId desc")
+    List<InformationSummary> findMostViewedSummariesBefore(
             @Param("language") String language,
-            @Param("sevenDaysAgo") String sevenDaysAgo,
-            @Param("i") int i);
+            @Param("category") String category,
+            @Param("keyword") String keyword,
+            @Param("views") long views,
+            @Param("informationId") long informationId,
+            Pageable pageable);
+
+    @Query("select count(ti) from TranslatedInformation ti " +
+            "where ti.language = :language " +
+            "and (:category = '전체' or ti.information.category = :category) " +
+            "and (:keyword is null or ti.title like concat('%', :keyword, '%'))")
+    long countByLanguageAndCategoryAndTitle(
+            @Param("language") String language,
+            @Param("category") String category,
+            @Param("keyword") String keyword);
+
+    String RECENT_SELECT = "select i.informationId as informationId, i.category as category, " +
+            "ti.language as language, i.createdAt as createdAt, ti.updatedAt as updatedAt " +
+            "from TranslatedInformation ti join ti.information i ";
+
+    // 추천 후보 풀 적재용. 최근 글의 (게시글, 카테고리, 언어)
+    @Query(RECENT_SELECT + "where i.createdAt >= :since")
+    List<RecentTranslation> findRecentTranslations(@Param("since") LocalDateTime since);
+
+    // 추천 후보 풀 따라잡기용. 최근 글 중 updatedAt 이후에 저장된 번역
+    @Query(RECENT_SELECT + "where i.createdAt >= :since and ti.updatedAt >= :updatedSince")
+    List<RecentTranslation> findRecentTranslationsUpdatedSince(@Param("since") LocalDateTime since,
+                                                               @Param("updatedSince") LocalDateTime updatedSince);
 }
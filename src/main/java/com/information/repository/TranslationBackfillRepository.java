@@ -0,0 +1,49 @@
+package com.information.repository;
+
+import com.information.entity.TranslationBackfill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TranslationBackfillRepository extends JpaRepository<TranslationBackfill, Long> {
+    List<TranslationBackfill> findByStatus(TranslationBackfill.Status status);
+
+    TranslationBackfill findFirstByLanguageAndStatus(String language, TranslationBackfill.Status status);
+
+    // 진행 상황 갱신은 실행 중일 때만 (취소와 겹쳐도 취소 상태를 덮어쓰지 않도록)
+    @Transactional
+    @Modifying
+    @Query("update TranslationBackfill b set b.lastInformationId = :lastInformationId, " +
+            "b.scanned = b.scanned + :scanned, b.enqueued = b.enqueued + :enqueued, b.updatedAt = :now " +
+            "where b.backfillId = :backfillId and b.status = :running")
+    int advance(@Param("backfillId") Long backfillId,
+                @Param("lastInformationId") Long lastInformationId,
+                @Param("scanned") long scanned,
+                @Param("enqueued") long enqueued,
+                @Param("now") LocalDateTime now,
+                @Param("running") TranslationBackfill.Status running);
+
+    @Transactional
+    @Modifying
+    @Query("update TranslationBackfill b set b.scanFinished = true, b.updatedAt = :now " +
+            "where b.backfillId = :backfillId and b.status = :running")
+    int finishScan(@Param("backfillId") Long backfillId,
+                   @Param("now") LocalDateTime now,
+                   @Param("running") TranslationBackfill.Status running);
+
+    @Transactional
+    @Modifying
+    @Query("update TranslationBackfill b set b.status = :status, b.finishedAt = :now, b.updatedAt = :now " +
+            "where b.backfillId = :backfillId and b.status = :running")
+    int finish(@Param("backfillId") Long backfillId,
+               @Param("status") TranslationBackfill.Status status,
+               @Param("now") LocalDateTime now,
+               @Param("running") TranslationBackfill.Status running);
+}
@@ -0,0 +1,9 @@
+package com.information.repository;
+
+import com.information.entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, String> {
+}
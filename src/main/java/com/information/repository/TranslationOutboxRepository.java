@@ -0,0 +1,119 @@
+package com.information.repository;
+
+import com.information.entity.TranslationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TranslationOutboxRepository extends JpaRepository<TranslationOutbox, Long> {
+    @Query("select o.status from TranslationOutbox o where o.informationId = :informationId and o.language = :language")
+    TranslationOutbox.Status findStatus(@Param("informationId") Long informationId, @Param("language") String language);
+
+    /**
+     * 행이 없으면 만들고, 있으면 revision 을 올려서 다시 대기 상태로 (동시에 처음 넣어도 유니크 키 충돌 없음).
+     * 처리 중인 행은 revision 만 올려두고 시도 횟수/상태는 그 시도가 끝날 때 정한다.
+     * MySQL 은 assignment 를 왼쪽부터 적용하므로 status 는 다른 컬럼이 옛 값을 본 뒤 마지막에 바꾼다
+     */
+    @Modifying
+    @Query(value =
+            "insert into translation_outbox " +
+                    "(information_id, language, status, lane, revision, attempts, next_attempt_at, enqueued_at, created_at, updated_at) " +
+                    "values (:informationId, :language, 'PENDING', :lane, 1, 0, :now, :now, :now, :now) " +
+                    "on duplicate key update " +
+                    "lane = if(status in ('DONE', 'DEAD') or lane is null " +
+                    "or field(:lane, 'NEW', 'EDIT', 'BACKFILL') < field(lane, 'NEW', 'EDIT', 'BACKFILL'), :lane, lane), " +
+                    "revision = revision + 1, " +
+                    "enqueued_at = :now, " +
+                    "updated_at = :now, " +
+                    "attempts = if(status = 'IN_PROGRESS', attempts, 0), " +
+                    "next_attempt_at = if(status = 'IN_PROGRESS', next_attempt_at, :now), " +
+                    "last_error = if(status = 'IN_PROGRESS', last_error, null), " +
+                    "claimed_at = if(status = 'IN_PROGRESS', claimed_at, null), " +
+                    "status = if(status = 'IN_PROGRESS', status, 'PENDING')"
+            , nativeQuery = true)
+    int upsert(@Param("informationId") Long informationId,
+               @Param("language") String language,
+               @Param("lane") String lane,
+               @Param("now") LocalDateTime now);
+
+    // 처리 중에 새 요청이 없었을 때(revision 그대로)만 결과 기록
+    @Modifying
+    @Query("update TranslationOutbox o set o.status = :status, o.nextAttemptAt = :nextAttemptAt, " +
+            "o.lastError = :lastError, o.claimedAt = null, o.updatedAt = :now " +
+            "where o.outboxId = :outboxId and o.revision = :revision and o.status = :inProgress")
+    int finish(@Param("outboxId") Long outboxId,
+               @Param("revision") long revision,
+               @Param("status") TranslationOutbox.Status status,
+               @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+               @Param("lastError") String lastError,
+               @Param("now") LocalDateTime now,
+               @Param("inProgress") TranslationOutbox.Status inProgress);
+
+    // 처리 중에 새 요청이 들어와 revision 이 바뀐 행을 바로 다시 대기 상태로
+    @Modifying
+    @Query("update TranslationOutbox o set o.status = :pending, o.attempts = 0, o.nextAttemptAt = :now, " +
+            "o.lastError = null, o.claimedAt = null, o.updatedAt = :now " +
+            "where o.outboxId = :outboxId and o.revision <> :revision and o.status = :inProgress")
+    int requeue(@Param("outboxId") Long outboxId,
+                @Param("revision") long revision,
+                @Param("now") LocalDateTime now,
+                @Param("inProgress") TranslationOutbox.Status inProgress,
+                @Param("pending") TranslationOutbox.Status pending);
+
+    // 다른 워커(파드)가 잡고 있는 행은 건너뛰고 가져옴
+    @Query(value =
+            "select * from translation_outbox " +
+                    "where status in ('PENDING', 'FAILED') " +
+                    "and lane = :lane " +
+                    "and next_attempt_at <= :now " +
+                    "order by next_attempt_at, outbox_id " +
+                    "limit :limit " +
+                    "for update skip locked"
+            , nativeQuery = true)
+    List<TranslationOutbox> findClaimable(
+            @Param("lane") String lane,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit);
+
+    // 워커가 죽어서 완료 처리되지 않은 행을 다시 대기 상태로
+    @Modifying
+    @Query("update TranslationOutbox o set o.status = :pending, o.claimedAt = null " +
+            "where o.status = :inProgress and o.claimedAt < :staleBefore")
+    int releaseStale(@Param("staleBefore") LocalDateTime staleBefore,
+                     @Param("inProgress") TranslationOutbox.Status inProgress,
+                     @Param("pending") TranslationOutbox.Status pending);
+
+    // 시작하지 못한 작업 반납 (시도 횟수는 되돌림)
+    @Modifying
+    @Query("update TranslationOutbox o set o.status = :pending, o.claimedAt = null, o.attempts = o.attempts - 1 " +
+            "where o.outboxId in :outboxIds and o.status = :inProgress")
+    int release(@Param("outboxIds") List<Long> outboxIds,
+                @Param("inProgress") TranslationOutbox.Status inProgress,
+                @Param("pending") TranslationOutbox.Status pending);
+
+    // 레인별 대기 행 수 [lane, count]
+    @Query("select o.lane, count(o) from TranslationOutbox o " +
+            "where o.status in :statuses group by o.lane")
+    List<Object[]> countByLane(@Param("statuses") List<TranslationOutbox.Status> statuses);
+
+    long countByLanguageAndLaneAndStatusIn(String language, TranslationOutbox.Lane lane,
+                                           List<TranslationOutbox.Status> statuses);
+
+    long countByInformationIdAndStatusNot(Long informationId, TranslationOutbox.Status status);
+
+    long countByLaneAndStatusIn(TranslationOutbox.Lane lane, List<TranslationOutbox.Status> statuses);
+
+    @Modifying
+    @Query("delete from TranslationOutbox o where o.language = :language and o.lane = :lane and o.status in :statuses")
+    int deleteByLanguageAndLaneAndStatusIn(@Param("language") String language,
+                                           @Param("lane") TranslationOutbox.Lane lane,
+                                           @Param("statuses") List<TranslationOutbox.Status> statuses);
+
+    void deleteByInformationId(Long informationId);
+}
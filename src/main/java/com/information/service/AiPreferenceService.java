@@ -0,0 +1,173 @@
+package com.information.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.information.repository.InformationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * AI 서버의 사용자 선호도 조회. 결과는 사용자별로 캐시하고 오래되면 백그라운드에서 갱신한다.
+ * 캐시가 없을 때는 정해진 시간까지만 기다리고, 넘기면 인기 카테고리 기반 선호도로 대신 응답한다
+ * (늦게 도착한 결과는 다음 요청을 위해 캐시에 넣음)
+ */
+@Slf4j
+@Service
+public class AiPreferenceService {
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final InformationRepository informationRepository;
+
+    private final String aiUrl;
+    private final long deadlineMs;
+    private final Duration requestTimeout;
+    private final long refreshAfterMs;
+
+    private record CachedPreferences(Map<String, Double> preferences, long fetchedAt) {
+    }
+
+    private final Cache<Long, CachedPreferences> cache;
+    private final Map<Long, CompletableFuture<Map<String, Double>>> inFlight = new ConcurrentHashMap<>();
+    private final Supplier<Map<String, Double>> popularPreferences;
+
+    private final Counter cacheHits;
+    private final Counter fallbacks;
+
+    public AiPreferenceService(@Qualifier("aiHttpClient") HttpClient httpClient,
+                               ObjectMapper objectMapper,
+                               InformationRepository informationRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${ai.url}") String aiUrl,
+                               @Value("${ai.preference.deadline-ms:300}") long deadlineMs,
+                               @Value("${ai.preference.request-timeout-ms:2000}") long requestTimeoutMs,
+                               @Value("${ai.preference.refresh-after-seconds:300}") long refreshAfterSeconds,
+                               @Value("${ai.preference.expire-after-seconds:3600}") long expireAfterSeconds,
+                               @Value("${ai.preference.cache-size:100000}") long cacheSize) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.informationRepository = informationRepository;
+        this.aiUrl = aiUrl;
+        this.deadlineMs = deadlineMs;
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.refreshAfterMs = TimeUnit.SECONDS.toMillis(refreshAfterSeconds);
+
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(expireAfterSeconds, TimeUnit.SECONDS)
+                .build();
+        this.popularPreferences = Suppliers.memoizeWithExpiration(this::loadPopularPreferences, 10, TimeUnit.MINUTES);
+
+        this.cacheHits = Counter.builder("recommendation.preferences").tag("result", "cache_hit")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("recommendation.preferences").tag("result", "fallback")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카테고리별 선호도 (0~1). 캐시가 있으면 바로, 없으면 deadline 까지만 AI 서버를 기다린다
+     */
+    public Map<String, Double> getPreferences(long userId, String token) {
+        CachedPreferences cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            cacheHits.increment();
+            // 오래된 값은 일단 돌려주고 이번 요청의 토큰으로 뒤에서 갱신. 토큰을 따로 보관하지 않으므로 토큰이 없으면 갱신하지 않음
+            if (System.currentTimeMillis() - cached.fetchedAt() > refreshAfterMs && token != null && !token.isBlank()) {
+                fetch(userId, token);
+            }
+            return cached.preferences();
+        }
+
+        try {
+            return fetch(userId, token).get(deadlineMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("AI 선호도 응답 지연 userId={}, 인기 카테고리로 대신 추천", userId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("AI 선호도 조회 실패 userId={}, 인기 카테고리로 대신 추천", userId, e.getCause());
+        }
+        fallbacks.increment();
+        return popularPreferences.get();
+    }
+
+    // 같은 사용자에 대한 조회는 하나만 진행. 토큰은 이 요청에만 쓴다
+    private CompletableFuture<Map<String, Double>> fetch(long userId, String token) {
+        CompletableFuture<Map<String, Double>> created = new CompletableFuture<>();
+        CompletableFuture<Map<String, Double>> existing = inFlight.putIfAbsent(userId, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(aiUrl + "/user/" + userId + "/preferences"))
+                .timeout(requestTimeout)
+                .GET();
+        if (token != null && !token.isBlank()) {
+            request.header("Authorization", token);
+        }
+
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+                .thenApply(this::parse)
+                .whenComplete((preferences, error) -> {
+                    inFlight.remove(userId, created);
+                    if (error != null) {
+                        created.completeExceptionally(error);
+                        return;
+                    }
+                    cache.put(userId, new CachedPreferences(preferences, System.currentTimeMillis()));
+                    created.complete(preferences);
+                });
+        return created;
+    }
+
+    private Map<String, Double> parse(HttpResponse<String> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("AI 서버 응답 " + response.statusCode());
+        }
+        try {
+            JsonNode infoPreferences = objectMapper.readTree(response.body()).path("info_preferences");
+            if (infoPreferences.isMissingNode()) {
+                throw new IllegalStateException("info_preferences 항목이 존재하지 않음");
+            }
+            Map<String, Double> preferences = new HashMap<>();
+            infoPreferences.fields().forEachRemaining(field ->
+                    preferences.put(field.getKey(), field.getValue().doubleValue()));
+            return preferences;
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("선호도 파싱 실패", e);
+        }
+    }
+
+    // 카테고리별 조회수 합을 가장 많은 카테고리 기준 0~1 로
+    private Map<String, Double> loadPopularPreferences() {
+        Map<String, Double> preferences = new HashMap<>();
+        double max = 0;
+        for (Object[] row : informationRepository.sumViewsByCategory()) {
+            double views = row[1] == null ? 0 : ((Number) row[1]).doubleValue();
+            preferences.put((String) row[0], views);
+            max = Math.max(max, views);
+        }
+        if (max > 0) {
+            final double top = max;
+            preferences.replaceAll((category, views) -> views / top);
+        }
+        return preferences;
+    }
+}
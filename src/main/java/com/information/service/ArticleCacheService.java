@@ -0,0 +1,159 @@
+package com.information.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.information.dto.InformationArticle;
+import com.information.entity.TranslatedInformation;
+import com.information.repository.TranslatedInformationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import util.InformationDeletedEvent;
+import util.OffHeapResponseStore;
+import util.TranslationSavedEvent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상세 조회 캐시. (게시글, 언어)별로 조립한 게시글을 들고 있고, 같은 키를 동시에 여러 요청이 찾으면
+ * 한 요청만 DB를 읽고 나머지는 그 결과를 기다린다 (LoadingCache).
+ * 번역이 저장되면 그 언어만, 게시글이 삭제되면 모든 언어를 커밋 후 바로 비운다.
+ * 다른 인스턴스에서 저장된 번역은 ttl 안에 반영된다.
+ * 자주 읽히는 게시글은 JSON 으로 한 번 직렬화해서 힙 밖 저장소에 두고 응답에 바로 쓴다 (요청마다 DTO/직렬화 없음)
+ */
+@Slf4j
+@Service
+public class ArticleCacheService {
+    private record Key(Long informationId, String language) {
+    }
+
+    private final LoadingCache<Key, Optional<InformationArticle>> cache;
+    private final OffHeapResponseStore responseStore;
+    private final ObjectMapper objectMapper;
+
+    public ArticleCacheService(TranslatedInformationRepository translatedInformationRepository,
+                               MeterRegistry meterRegistry,
+                               ObjectMapper objectMapper,
+                               @Value("${information.article-cache.size:10000}") long size,
+                               @Value("${information.article-cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${information.response-store.max-bytes:67108864}") long storeMaxBytes,
+                               @Value("${information.response-store.page-size:4096}") int storePageSize,
+                               @Value("${information.response-store.max-entry-bytes:1048576}") int storeMaxEntryBytes,
+                               @Value("${information.response-store.gzip:true}") boolean storeGzip) {
+        this.objectMapper = objectMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Optional<InformationArticle> load(Key key) {
+                        // 번역이 아직 없는 경우도 캐시해두고 번역이 저장될 때 비운다
+                        TranslatedInformation translatedInformation = translatedInformationRepository
+                                .findByInformation_InformationIdAndLanguage(key.informationId(), key.language());
+                        if (translatedInformation == null) {
+                            return Optional.empty();
+                        }
+                        return Optional.of(new InformationArticle(
+                                key.informationId(),
+                                translatedInformation.getInformation().getCategory(),
+                                translatedInformation.getTitle(),
+                                translatedInformation.getContent(),
+                                translatedInformation.getInformation().getUser().getName(),
+                                Objects.toString(translatedInformation.getInformation().getCreatedAt(), null),
+                                Objects.requireNonNullElse(translatedInformation.getInformation().getContentVersion(), 0L)));
+                    }
+                });
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "information.article.cache");
+
+        // 게시글 캐시와 같은 ttl 로 다른 인스턴스의 변경도 같은 시간 안에 반영
+        this.responseStore = new OffHeapResponseStore(storeMaxBytes, storePageSize, storeMaxEntryBytes, storeGzip,
+                TimeUnit.SECONDS.toMillis(ttlSeconds));
+        Gauge.builder("information.response.store.bytes", responseStore, OffHeapResponseStore::usedBytes)
+                .register(meterRegistry);
+        Gauge.builder("information.response.store.entries", responseStore, OffHeapResponseStore::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<InformationArticle> get(Long informationId, String language) {
+        try {
+            return cache.getUnchecked(new Key(informationId, language));
+        } catch (UncheckedExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+        }
+    }
+
+    /**
+     * 저장해둔 JSON 에 조회수/북마크 여부(suffix)를 붙여 응답에 바로 쓴다.
+     * 아직 없으면 article 이 캐시의 현재 값일 때만 직렬화해서 넣는다. 쓰지 못했으면 false (호출한 쪽에서 DTO 로 응답)
+     */
+    public boolean writeResponse(InformationArticle article, String language, long views, long state,
+                                 boolean gzip, HttpServletResponse response) throws IOException {
+        Key key = new Key(article.informationId(), language);
+        byte[] suffix = (",\"views\":" + views + ",\"isState\":" + state + "}").getBytes(StandardCharsets.UTF_8);
+        if (responseStore.writeTo(key, suffix, gzip, response)) {
+            return true;
+        }
+
+        // 무효화는 캐시 -> 저장소 순서라, generation 을 먼저 읽고 캐시 값을 확인하면 무효화된 내용이 저장되지 않는다
+        long generation = responseStore.generation(key);
+        Optional<InformationArticle> current = cache.getIfPresent(key);
+        if (current == null || current.orElse(null) != article) {
+            return false;
+        }
+        byte[] prefix = serialize(article);
+        if (prefix == null || !responseStore.put(key, prefix, generation)) {
+            return false;
+        }
+        return responseStore.writeTo(key, suffix, gzip, response);
+    }
+
+    // InformationResDto 와 같은 필드에서 views, isState 를 뺀 JSON 의 닫는 괄호 앞까지
+    private byte[] serialize(InformationArticle article) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("informationId", article.informationId());
+        fields.put("title", article.title());
+        fields.put("content", article.content());
+        fields.put("excerpt", null);
+        fields.put("wordCount", null);
+        fields.put("userName", article.userName());
+        fields.put("createdAt", article.createdAt());
+        fields.put("category", article.category());
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(fields);
+            return Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            log.warn("게시글 직렬화 실패 informationId={}", article.informationId(), e);
+            return null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationSaved(TranslationSavedEvent event) {
+        Key key = new Key(event.informationId(), event.language());
+        cache.invalidate(key);
+        responseStore.invalidate(key);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInformationDeleted(InformationDeletedEvent event) {
+        cache.asMap().keySet().removeIf(key -> key.informationId().equals(event.informationId()));
+        responseStore.invalidateIf(key -> ((Key) key).informationId().equals(event.informationId()));
+    }
+}
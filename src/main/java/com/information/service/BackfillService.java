@@ -0,0 +1,252 @@
+package com.information.service;
+
+import com.information.entity.TranslationBackfill;
+import com.information.entity.TranslationOutbox;
+import com.information.entity.User;
+import com.information.repository.InformationRepository;
+import com.information.repository.TranslatedInformationRepository;
+import com.information.repository.TranslationBackfillRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import util.JwtUtil;
+import util.NamedThreadFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 새 번역 언어를 추가했을 때 기존 게시글의 번역을 채우는 백필.
+ * information 을 id 순으로 조금씩 읽어 빠진 (게시글, 언어) 쌍만 BACKFILL 레인으로 아웃박스에 넣는다.
+ * 스캔 위치를 DB에 남겨서 재시작 후에도 이어서 진행하고, 대기 중인 백필 작업이 많으면 다음 청크를 미뤄서
+ * 실시간 번역이 밀리지 않게 한다.
+ * 백필은 스레드 하나에서 차례로 돌린다. 여러 언어를 동시에 시작하면 앞 백필이 끝난 뒤에 다음 것이 진행된다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BackfillService {
+    private final TranslationBackfillRepository translationBackfillRepository;
+    private final InformationRepository informationRepository;
+    private final TranslatedInformationRepository translatedInformationRepository;
+    private final UserCacheService userCacheService;
+
+    private final TranslationService translationService;
+    private final TranslationOutboxService translationOutboxService;
+    private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${translation.backfill.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${translation.backfill.max-pending:200}") // 대기 중인 백필 행이 이 이상이면 스캔을 쉰다
+    private long maxPending;
+
+    @Value("${translation.backfill.idle-ms:2000}")
+    private long idleMs;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new NamedThreadFactory("translation-backfill-"));
+
+    // 이전 실행에서 진행 중이던 백필 재개
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        for (TranslationBackfill backfill : translationBackfillRepository
+                .findByStatus(TranslationBackfill.Status.RUNNING)) {
+            log.info("백필 재개 backfillId={} language={}", backfill.getBackfillId(), backfill.getLanguage());
+            executor.submit(() -> run(backfill.getBackfillId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow(); // 진행 상황은 DB에 있으니 다음 기동 때 이어서
+    }
+
+    public ResponseEntity<?> start(String token, String language) {
+        Optional<User> user = verifyAdmin(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().body("관리자만 실행 가능");
+        }
+
+        if (language == null || language.equals("KO") || !translationService.getTargetLanguages().contains(language)) {
+            return ResponseEntity.badRequest().body("지원하지 않는 언어");
+        }
+
+        if (translationBackfillRepository.findFirstByLanguageAndStatus(
+                language, TranslationBackfill.Status.RUNNING) != null) {
+            return ResponseEntity.badRequest().body("이미 진행 중인 백필");
+        }
+
+        TranslationBackfill backfill = translationBackfillRepository.save(TranslationBackfill.builder()
+                .language(language)
+                .status(TranslationBackfill.Status.RUNNING)
+                .lastInformationId(0L)
+                .totalInformation(informationRepository.count())
+                .build());
+
+        executor.submit(() -> run(backfill.getBackfillId()));
+
+        return ResponseEntity.ok(progress(backfill));
+    }
+
+    public ResponseEntity<?> getProgress(String token, long backfillId) {
+        Optional<User> user = verifyAdmin(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().body("관리자만 조회 가능");
+        }
+
+        TranslationBackfill backfill = translationBackfillRepository.findById(backfillId).orElse(null);
+        if (backfill == null) {
+            return ResponseEntity.badRequest().body("잘못된 백필");
+        }
+        return ResponseEntity.ok(progress(backfill));
+    }
+
+    public ResponseEntity<?> cancel(String token, long backfillId) {
+        Optional<User> user = verifyAdmin(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().body("관리자만 취소 가능");
+        }
+
+        TranslationBackfill backfill = translationBackfillRepository.findById(backfillId).orElse(null);
+        if (backfill == null) {
+            return ResponseEntity.badRequest().body("잘못된 백필");
+        }
+
+        translationBackfillRepository.finish(backfillId, TranslationBackfill.Status.CANCELLED,
+                LocalDateTime.now(), TranslationBackfill.Status.RUNNING);
+        int removed = translationOutboxService.cancelPending(backfill.getLanguage(), TranslationOutbox.Lane.BACKFILL);
+
+        return ResponseEntity.ok().body("백필 취소 (대기 중이던 번역 " + removed + "건 제거)");
+    }
+
+    private void run(Long backfillId) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                TranslationBackfill backfill = translationBackfillRepository.findById(backfillId).orElse(null);
+                if (backfill == null || backfill.getStatus() != TranslationBackfill.Status.RUNNING) {
+                    return; // 취소됨
+                }
+
+                if (backfill.isScanFinished()) {
+                    // 스캔은 끝났고 넣어둔 번역이 모두 처리될 때까지 기다림
+                    if (translationOutboxService.countPending(TranslationOutbox.Lane.BACKFILL,
+                            backfill.getLanguage(), true) == 0) {
+                        translationBackfillRepository.finish(backfillId, TranslationBackfill.Status.COMPLETED,
+                                LocalDateTime.now(), TranslationBackfill.Status.RUNNING);
+                        log.info("백필 완료 backfillId={} language={} 번역={}건",
+                                backfillId, backfill.getLanguage(), backfill.getEnqueued());
+                        return;
+                    }
+                    Thread.sleep(idleMs);
+                    continue;
+                }
+
+                // 백필 대기열이 충분히 차 있으면 실시간 번역에 양보
+                if (translationOutboxService.countPending(TranslationOutbox.Lane.BACKFILL, null, false) >= maxPending) {
+                    Thread.sleep(idleMs);
+                    continue;
+                }
+
+                List<Long> informationIds = informationRepository
+                        .findIdsAfter(backfill.getLastInformationId(), PageRequest.of(0, chunkSize));
+                if (informationIds.isEmpty()) {
+                    translationBackfillRepository.finishScan(backfillId, LocalDateTime.now(),
+                            TranslationBackfill.Status.RUNNING);
+                    continue;
+                }
+
+                Set<Long> translated = new HashSet<>(translatedInformationRepository
+                        .findInformationIdsByLanguageAndInformationIdIn(backfill.getLanguage(), informationIds));
+                Set<Long> hasSource = new HashSet<>(translatedInformationRepository
+                        .findInformationIdsByLanguageAndInformationIdIn("KO", informationIds));
+
+                List<Long> missing = new ArrayList<>();
+                for (Long informationId : informationIds) {
+                    if (!translated.contains(informationId) && hasSource.contains(informationId)) {
+                        missing.add(informationId);
+                    }
+                }
+
+                // 아웃박스 적재와 스캔 위치를 같이 커밋. 중간에 죽어도 같은 청크를 다시 읽을 뿐 빠뜨리지 않는다
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!missing.isEmpty()) {
+                        translationOutboxService.enqueueAll(missing, backfill.getLanguage(),
+                                TranslationOutbox.Lane.BACKFILL);
+                    }
+                    int advanced = translationBackfillRepository.advance(backfillId,
+                            informationIds.get(informationIds.size() - 1), informationIds.size(), missing.size(),
+                            LocalDateTime.now(), TranslationBackfill.Status.RUNNING);
+                    if (advanced == 0) {
+                        status.setRollbackOnly(); // 그 사이 취소됨. 넣은 번역도 되돌린다
+                    }
+                });
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("백필 진행 실패 backfillId={}", backfillId, e);
+                try {
+                    Thread.sleep(idleMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> progress(TranslationBackfill backfill) {
+        long remaining = translationOutboxService.countPending(TranslationOutbox.Lane.BACKFILL,
+                backfill.getLanguage(), true);
+        long translated = Math.max(0, backfill.getEnqueued() - remaining);
+
+        LocalDateTime end = backfill.getFinishedAt() != null ? backfill.getFinishedAt() : LocalDateTime.now();
+        double elapsedSeconds = Math.max(1, Duration.between(backfill.getStartedAt(), end).getSeconds());
+        double perMinute = translated / elapsedSeconds * 60;
+
+        // 스캔이 안 끝났으면 지금까지 비율로 전체 누락 수를 추정
+        long estimatedTotal = backfill.isScanFinished() || backfill.getScanned() == 0
+                ? backfill.getEnqueued()
+                : backfill.getEnqueued() * Math.max(backfill.getTotalInformation(), backfill.getScanned())
+                / backfill.getScanned();
+        Long etaSeconds = perMinute > 0
+                ? (long) (Math.max(0, estimatedTotal - translated) / (perMinute / 60))
+                : null;
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("backfillId", backfill.getBackfillId());
+        progress.put("language", backfill.getLanguage());
+        progress.put("status", backfill.getStatus());
+        progress.put("scanned", backfill.getScanned());
+        progress.put("totalInformation", backfill.getTotalInformation());
+        progress.put("enqueued", backfill.getEnqueued());
+        progress.put("translated", translated);
+        progress.put("remaining", remaining);
+        progress.put("throughputPerMinute", Math.round(perMinute * 10) / 10.0);
+        progress.put("etaSeconds", etaSeconds);
+        progress.put("startedAt", backfill.getStartedAt());
+        return progress;
+    }
+
+    private Optional<User> verifyAdmin(String token) {
+        try {
+            long userId = jwtUtil.getUserId(token);
+            return userCacheService.find(userId)
+                    .filter(user -> user.getRole().equals("ROLE_ADMIN"));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+}
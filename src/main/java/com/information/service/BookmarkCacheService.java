@@ -0,0 +1,120 @@
+package com.information.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.information.repository.BookmarkRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import util.BookmarkChangedEvent;
+import util.InformationDeletedEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 북마크한 게시글 id 를 정렬된 long 배열로 캐시. 목록의 북마크 여부는 이진 탐색으로 DB 없이 판단한다.
+ * 처음 필요할 때 한 번 읽고, 북마크 등록/해제와 게시글 삭제는 커밋 후 배열을 새로 만들어 교체한다.
+ * DB에서 읽는 도중 들어온 변경은 사용자별 버전(슬롯)으로 알아채고, 그때 읽은 배열은 캐시하지 않는다.
+ * 다른 인스턴스에서 바뀐 북마크는 expire-after-seconds 안에 다시 읽힌다
+ */
+@Service
+public class BookmarkCacheService {
+    private static final long[] EMPTY = new long[0];
+    private static final int VERSION_SLOTS = 1024;
+
+    private final BookmarkRepository bookmarkRepository;
+    private final Cache<Long, long[]> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS); // 사용자 id 로 나눈 슬롯별 변경 횟수
+
+    public BookmarkCacheService(BookmarkRepository bookmarkRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${bookmark.cache.max-ids:5000000}") long maxIds,
+                                @Value("${bookmark.cache.expire-after-seconds:600}") long expireAfterSeconds) {
+        this.bookmarkRepository = bookmarkRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxIds) // 사용자 수가 아니라 들고 있는 id 개수로 제한
+                .weigher((Long userId, long[] ids) -> ids.length + 1)
+                .expireAfterWrite(expireAfterSeconds, TimeUnit.SECONDS)
+                .build();
+        Gauge.builder("bookmark.cache.users", cache, Cache::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isBookmarked(Long userId, Long informationId) {
+        return Arrays.binarySearch(bookmarks(userId), informationId) >= 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        // 캐시에 없는 사용자는 다음에 읽을 때 DB에서 가져오므로 건드리지 않음. 지금 읽는 중이면 버전으로 알림
+        versions.incrementAndGet(slot(event.userId()));
+        cache.asMap().computeIfPresent(event.userId(), (userId, ids) -> event.bookmarked()
+                ? insert(ids, event.informationId())
+                : delete(ids, event.informationId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInformationDeleted(InformationDeletedEvent event) {
+        for (int slot = 0; slot < VERSION_SLOTS; slot++) {
+            versions.incrementAndGet(slot);
+        }
+        for (Long userId : cache.asMap().keySet()) {
+            cache.asMap().computeIfPresent(userId, (key, ids) -> delete(ids, event.informationId()));
+        }
+    }
+
+    private long[] bookmarks(Long userId) {
+        long[] cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int slot = slot(userId);
+        long version = versions.get(slot);
+        long[] loaded = load(userId);
+        // 버전 확인과 저장을 한 번에 (이벤트의 computeIfPresent 와 같은 항목 잠금). 읽는 사이 바뀌었으면 캐시하지 않음
+        cache.asMap().compute(userId, (key, existing) -> existing != null || versions.get(slot) != version
+                ? existing
+                : loaded);
+        return loaded;
+    }
+
+    private static int slot(Long userId) {
+        return Math.floorMod(userId.hashCode(), VERSION_SLOTS);
+    }
+
+    private long[] load(Long userId) {
+        List<Long> ids = bookmarkRepository.findInformationIdsByUserId(userId);
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private static long[] insert(long[] ids, long informationId) {
+        int position = Arrays.binarySearch(ids, informationId);
+        if (position >= 0) return ids;
+        int insertAt = -position - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, insertAt);
+        updated[insertAt] = informationId;
+        System.arraycopy(ids, insertAt, updated, insertAt + 1, ids.length - insertAt);
+        return updated;
+    }
+
+    private static long[] delete(long[] ids, long informationId) {
+        int position = Arrays.binarySearch(ids, informationId);
+        if (position < 0) return ids;
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        System.arraycopy(ids, position + 1, updated, position, ids.length - position - 1);
+        return updated;
+    }
+}
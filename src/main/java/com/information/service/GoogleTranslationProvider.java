@@ -0,0 +1,111 @@
+package com.information.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@ConditionalOnProperty(name = "translation.provider", havingValue = "google", matchIfMissing = true)
+public class GoogleTranslationProvider implements TranslationProvider {
+    private static final String API_URL = "https://translation.googleapis.com/language/translate/v2";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String apiKey;
+    private final Duration readTimeout;
+
+    public GoogleTranslationProvider(@Qualifier("translationHttpClient") HttpClient httpClient,
+                                     ObjectMapper objectMapper,
+                                     @Value("${translation.api-key}") String apiKey,
+                                     @Value("${translation.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.readTimeout = Duration.ofMillis(readTimeoutMs);
+    }
+
+    @Override
+    public String getName() {
+        return "google";
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translate(List<String> texts, String sourceLang, String targetLang) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("q", texts);
+        body.put("source", sourceLang);
+        body.put("target", targetLang);
+        body.put("format", "text");
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(API_URL + "?key=" + apiKey))
+                    .timeout(readTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new TranslationProviderException("요청 생성 실패", e));
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(response -> parse(response, texts.size()));
+    }
+
+    private List<String> parse(HttpResponse<String> response, int expected) {
+        int status = response.statusCode();
+        if (status == 429 || status >= 500) {
+            throw new TranslationProviderException("번역 API 응답 " + status, true,
+                    retryAfter(response.headers().firstValue("Retry-After").orElse(null)));
+        }
+        if (status >= 400) {
+            throw new TranslationProviderException("번역 API 응답 " + status + " " + response.body(), false, null);
+        }
+
+        try {
+            JsonNode translations = objectMapper.readTree(response.body()).path("data").path("translations");
+            if (translations.size() != expected) {
+                throw new TranslationProviderException("번역 결과 개수 불일치", false, null);
+            }
+            List<String> result = new ArrayList<>(expected);
+            for (JsonNode translation : translations) {
+                result.add(translation.path("translatedText").asText());
+            }
+            return result;
+        } catch (TranslationProviderException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new TranslationProviderException("번역 응답 파싱 실패", e);
+        }
+    }
+
+    // Retry-After 는 초 단위 숫자 또는 HTTP 날짜
+    private Duration retryAfter(String value) {
+        if (value == null) return null;
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime at = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Duration.between(ZonedDateTime.now(), at);
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.information.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 total 용 카운터. 카테고리별('전체' 포함) 게시글 수와 사용자별 북마크 수를 테이블에 들고 있어서
+ * 페이지마다 COUNT(*) 를 하지 않는다.
+ * 증감은 호출한 쪽 트랜잭션 안에서 하므로 게시글 저장/삭제, 북마크 토글과 같이 커밋/롤백되고,
+ * 어긋난 값(직접 수정한 데이터, 보정 중 들어온 변경 등)은 주기적으로 DB 기준으로 다시 맞춘다
+ */
+@Slf4j
+@Service
+public class InformationCountService {
+    public static final String ALL = "전체";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${information.count.reconcile-interval-ms:3600000}")
+    private long reconcileIntervalMs;
+
+    private ScheduledExecutorService reconciler;
+
+    public InformationCountService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "count-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, reconcileIntervalMs, reconcileIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (reconciler != null) {
+            reconciler.shutdownNow();
+        }
+    }
+
+    public long categoryTotal(String category) {
+        List<Long> total = jdbcTemplate.queryForList(
+                "select total from information_count where category = ?", Long.class, category);
+        return total.isEmpty() ? 0 : Math.max(0, total.get(0));
+    }
+
+    public long bookmarkTotal(long userId) {
+        List<Long> total = jdbcTemplate.queryForList(
+                "select total from bookmark_count where user_id = ?", Long.class, userId);
+        return total.isEmpty() ? 0 : Math.max(0, total.get(0));
+    }
+
+    public void informationAdded(String category) {
+        addToCategory(category, 1);
+    }
+
+    // 게시글과 같이 지워지는 북마크만큼 북마크한 사용자들의 수도 줄인다 (게시글 삭제 전에 호출)
+    public void informationRemoved(String category, long informationId) {
+        addToCategory(category, -1);
+        jdbcTemplate.update("update bookmark_count c join bookmark b on b.user_id = c.user_id " +
+                "set c.total = c.total - 1 where b.information_id = ?", informationId);
+    }
+
+    public void bookmarkChanged(long userId, boolean bookmarked) {
+        long delta = bookmarked ? 1 : -1;
+        jdbcTemplate.update("insert into bookmark_count (user_id, total) values (?, ?) " +
+                "on duplicate key update total = total + ?", userId, delta, delta);
+    }
+
+    private void addToCategory(String category, long delta) {
+        String sql = "insert into information_count (category, total) values (?, ?) " +
+                "on duplicate key update total = total + ?";
+        if (category != null && !ALL.equals(category)) {
+            jdbcTemplate.update(sql, category, delta, delta);
+        }
+        jdbcTemplate.update(sql, ALL, delta, delta);
+    }
+
+    /**
+     * DB 기준으로 다시 센다. 문장마다 따로 커밋되므로 도중에 들어온 증감은 다음 보정까지 조금 어긋날 수 있다
+     */
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        jdbcTemplate.update("insert into information_count (category, total) " +
+                "select * from (select category, count(*) as counted from information " +
+                "where category is not null group by category) c " +
+                "on duplicate key update total = c.counted");
+        jdbcTemplate.update("insert into information_count (category, total) " +
+                "select * from (select ? as category, count(*) as counted from information) c " +
+                "on duplicate key update total = c.counted", ALL);
+        jdbcTemplate.update("update information_count ic set ic.total = 0 " +
+                "where ic.category <> ? and not exists (select 1 from information i where i.category = ic.category)", ALL);
+
+        jdbcTemplate.update("insert into bookmark_count (user_id, total) " +
+                "select * from (select user_id, count(*) as counted from bookmark group by user_id) c " +
+                "on duplicate key update total = c.counted");
+        jdbcTemplate.update("update bookmark_count bc set bc.total = 0 " +
+                "where not exists (select 1 from bookmark b where b.user_id = bc.user_id)");
+        log.info("게시글/북마크 카운터 보정 소요={}ms", System.currentTimeMillis() - start);
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("카운터 보정 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+}
@@ -1,31 +1,40 @@
 package com.information.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hasher;
+import com.information.dto.InformationArticle;
 import com.information.dto.InformationReqDto;
 import com.information.dto.InformationResDto;
+import com.information.dto.InformationSummary;
 import com.information.entity.*;
 import com.information.repository.*;
 import com.information.entity.*;
 import com.information.repository.*;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
-import org.springframework.web.client.RestTemplate;
+import util.BookmarkChangedEvent;
+import util.ETags;
+import util.InformationCursor;
+import util.InformationDeletedEvent;
+import util.InvertedIndex;
 import util.JwtUtil;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import util.TranslationJob;
-import util.TranslationQueue;
 
-import java.time.LocalDate;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -34,16 +43,28 @@ public class InformationService {
     private final InformationFileRepository informationFileRepository;
     private final BookmarkRepository bookmarkRepository;
     private final TranslatedInformationRepository translatedInformationRepository;
-    private final UserRepository userRepository;
 
-    private final TranslationQueue translationQueue;
+    private final TranslationService translationService;
+    private final TranslationOutboxService translationOutboxService;
+    private final SearchIndexService searchIndexService;
+    private final ViewCountService viewCountService;
+    private final InformationCountService informationCountService;
+    private final RecommendationPoolService recommendationPoolService;
+    private final AiPreferenceService aiPreferenceService;
+    private final BookmarkCacheService bookmarkCacheService;
+    private final UserCacheService userCacheService;
+    private final ArticleCacheService articleCacheService;
+    private final ApplicationEventPublisher eventPublisher;
     private final AwsS3Service awsS3Service;
     private final JwtUtil jwtUtil;
 
 
 
-    @Value("${ai.url}")
-    private String aiUrl;
+    // 커서 페이지의 전체 개수. 무한 스크롤에서 매번 COUNT 하지 않도록 잠깐 재사용
+    private final Cache<String, Long> totalCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(30, TimeUnit.SECONDS)
+            .build();
 
     public String extractKeyFromUrl(String url) {
         return url.substring(url.lastIndexOf("/") + 1);  // 맨 마지막 파일명만 추출
@@ -52,64 +73,76 @@ public class InformationService {
     private Optional<User> verifyToken(String token) {    // 토큰 검증 함수
         try {
             long userId = jwtUtil.getUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                return Optional.empty();
-            }
-            return Optional.of(user);
+            return userCacheService.find(userId);
         } catch (Exception e) {
             return Optional.empty();
         }
     }
 
-    private List<InformationResDto> informationToDto(Page<Information> informationList, User user) {
-        List<InformationResDto> informationResDtoList = new ArrayList<>();
-
-        for(Information information : informationList) {
-            TranslatedInformation translatedInformation = translatedInformationRepository
-                    .findByInformation_InformationIdAndLanguage(
-                            information.getInformationId(), user.getLanguage());
+    /**
+     * 목록 페이지 조립. 게시글 id 를 받아 요약(번역 제목/미리보기)+게시글+작성자를 한 번에 가져오고, 북마크 여부는 캐시에서.
+     * 본문은 읽지 않고, 순서는 그대로 유지
+     */
+    private List<InformationResDto> informationToDto(List<Long> informationIds, User user) {
+        return summaryToDto(summariesOf(informationIds, user.getLanguage()), user);
+    }
 
-            if(translatedInformation == null) {
-                continue;
-            }
+    private List<InformationSummary> summariesOf(List<Long> informationIds, String language) {
+        List<InformationSummary> ordered = new ArrayList<>();
+        if (informationIds.isEmpty()) {
+            return ordered;
+        }
 
-            long state = bookmarkRepository.countByInformation_InformationIdAndUser_UserId
-                    (information.getInformationId(), user.getUserId());
+        Map<Long, InformationSummary> summaryById = new HashMap<>();
+        for (InformationSummary summary : translatedInformationRepository
+                .findSummariesByLanguageAndInformationIdIn(language, informationIds)) {
+            summaryById.put(summary.getInformationId(), summary);
+        }
 
-            InformationResDto informationResDto = InformationResDto.builder()
-                    .category(information.getCategory())
-                    .informationId(information.getInformationId())
-                    .views(information.getViews())
-                    .title(translatedInformation.getTitle())
-                    .content(translatedInformation.getContent())
-                    .userName(information.getUser().getName())
-                    .createdAt(information.getCreatedAt())
-                    .isState(state)
-                    .build();
+        for (Long id : informationIds) {
+            InformationSummary summary = summaryById.get(id);
+            if (summary != null) { // 아직 번역되지 않은 글은 제외
+                ordered.add(summary);
+            }
+        }
+        return ordered;
+    }
 
-            informationResDtoList.add(informationResDto);
+    /**
+     * 목록 페이지의 약한 ETag. 담긴 글의 순서/내용 버전/북마크 여부와 페이지 정보(total, 다음 커서)로 만든다.
+     * 조회수는 넣지 않으므로 조회수만 바뀐 페이지는 304 (요청이 맞으면 스프링이 본문 없이 304 로 응답)
+     */
+    private String listETag(User user, List<InformationSummary> summaries, Object... pageInfo) {
+        Hasher hasher = ETags.hasher().putString(user.getLanguage(), StandardCharsets.UTF_8);
+        for (InformationSummary summary : summaries) {
+            hasher.putLong(summary.getInformationId())
+                    .putLong(summary.getContentVersion() == null ? 0 : summary.getContentVersion())
+                    .putBoolean(bookmarkCacheService.isBookmarked(user.getUserId(), summary.getInformationId()));
         }
-        return informationResDtoList;
+        for (Object info : pageInfo) {
+            hasher.putString(String.valueOf(info), StandardCharsets.UTF_8);
+        }
+        return ETags.weak(hasher);
     }
 
-    private List<InformationResDto> transInfoToDto(List<TranslatedInformation> transInfoList, User user) {
+    private List<InformationResDto> summaryToDto(List<InformationSummary> summaries, User user) {
         List<InformationResDto> informationResDtoList = new ArrayList<>();
+        if (summaries.isEmpty()) {
+            return informationResDtoList;
+        }
 
-        for(TranslatedInformation translatedInformation : transInfoList) {
-            Information information = translatedInformation.getInformation();
-
-            long state = bookmarkRepository.countByInformation_InformationIdAndUser_UserId
-                    (information.getInformationId(), user.getUserId());
+        for(InformationSummary summary : summaries) {
+            long state = bookmarkCacheService.isBookmarked(user.getUserId(), summary.getInformationId()) ? 1 : 0;
 
             InformationResDto informationResDto = InformationResDto.builder()
-                    .category(information.getCategory())
-                    .informationId(information.getInformationId())
-                    .views(information.getViews())
-                    .title(translatedInformation.getTitle())
-                    .content(translatedInformation.getContent())
-                    .userName(information.getUser().getName())
-                    .createdAt(information.getCreatedAt())
+                    .category(summary.getCategory())
+                    .informationId(summary.getInformationId())
+                    .views(summary.getViews() + viewCountService.pendingViews(summary.getInformationId()))
+                    .title(summary.getTitle())
+                    .excerpt(summary.getExcerpt())
+                    .wordCount(summary.getWordCount())
+                    .userName(summary.getUserName())
+                    .createdAt(Objects.toString(summary.getCreatedAt(), null))
                     .isState(state)
                     .build();
 
@@ -118,6 +151,7 @@ public class InformationService {
         return informationResDtoList;
     }
 
+    @Transactional
     public ResponseEntity<?> write(String token, InformationReqDto informationReqDto) throws JsonProcessingException {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -135,6 +169,7 @@ public class InformationService {
                 .build();
 
         information = informationRepository.save(information);
+        informationCountService.informationAdded(information.getCategory());
 
         List<String> files = informationReqDto.getFiles();
         if (files != null) {
@@ -147,7 +182,8 @@ public class InformationService {
             }
         }
 
-        translationQueue.enqueue(new TranslationJob(information, informationReqDto, null));
+        translationService.saveSource(information, informationReqDto); // 원문은 바로 저장, 번역은 아웃박스로
+        translationOutboxService.enqueue(information.getInformationId(), TranslationOutbox.Lane.NEW);
 
         InformationResDto informationResDto = InformationResDto.builder()
                 .category(informationReqDto.getCategory())
@@ -155,7 +191,7 @@ public class InformationService {
                 .title(informationReqDto.getTitle())
                 .informationId(information.getInformationId())
                 .views(0L)
-                .createdAt(information.getCreatedAt())
+                .createdAt(Objects.toString(information.getCreatedAt(), null))
                 .userName(user.get().getName())
                 .build();
 
@@ -194,46 +230,162 @@ public class InformationService {
                 break;
         }
         Pageable pageable = PageRequest.of(page,size,sortOptions);
-        Page<Information> informationList = informationRepository.findByCategory(category, pageable);
+        List<Long> informationList = informationRepository.findIdsByCategory(category, pageable);
 
-        long total = informationList.getTotalElements();
+        long total = informationCountService.categoryTotal(category);
 
-        List<InformationResDto> informationResDtoList = informationToDto(informationList, user.get());
+        List<InformationSummary> summaries = summariesOf(informationList, user.get().getLanguage());
 
-        return ResponseEntity.ok(Map.of(
-                "informationList", informationResDtoList,
+        return ResponseEntity.ok().eTag(listETag(user.get(), summaries, total)).body(Map.of(
+                "informationList", summaryToDto(summaries, user.get()),
                 "total", total
         ));
     }
 
-    public ResponseEntity<?> getInformation(String token, long informationId) {
+    public ResponseEntity<?> getInformationListByCursor(String token, String cursor, int size,
+                                                        String category, String sort, boolean withTotal) {
+        Optional<User> user = verifyToken(token);
+        if(user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
+        }
+        return cursorPage(user.get(), category, null, cursor, size, sort, withTotal);
+    }
+
+    /**
+     * 커서 페이지 조립. size+1 개를 읽어서 다음 페이지 유무를 판단하고, 전체 개수는 요청할 때만 (짧게 캐시해서) 센다
+     */
+    private ResponseEntity<?> cursorPage(User user, String category, String keyword, String cursor,
+                                         int size, String sort, boolean withTotal) {
+        InformationCursor after;
+        try {
+            after = InformationCursor.decode(sort, cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("잘못된 커서");
+        }
+
+        String language = user.getLanguage();
+        if (searchIndexService.canSearch(keyword)) {
+            return indexCursorPage(user, category, keyword, after, size, sort, withTotal);
+        }
+
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<InformationSummary> summaries = after.isByViews()
+                ? translatedInformationRepository.findMostViewedSummariesBefore(
+                        language, category, keyword, after.views(), after.informationId(), pageable)
+                : translatedInformationRepository.findLatestSummariesBefore(
+                        language, category, keyword, after.createdAt(), after.informationId(), pageable);
+
+        boolean hasNext = summaries.size() > size;
+        if (hasNext) {
+            summaries = summaries.subList(0, size);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("informationList", summaryToDto(summaries, user));
+        body.put("hasNext", hasNext);
+        body.put("nextCursor", hasNext
+                ? InformationCursor.after(sort, summaries.get(summaries.size() - 1)).encode()
+                : null);
+        if (withTotal) {
+            body.put("total", countTotal(language, category, keyword));
+        }
+        return ResponseEntity.ok().eTag(listETag(user, summaries, body.get("nextCursor"), body.get("total")))
+                .body(body);
+    }
+
+    /**
+     * 색인 검색 결과에서 커서 다음 위치부터 자른다. 커서 방식은 최신순/조회수순만 지원
+     */
+    private ResponseEntity<?> indexCursorPage(User user, String category, String keyword, InformationCursor after,
+                                              int size, String sort, boolean withTotal) {
+        List<InvertedIndex.Hit> hits = searchIndexService.search(user.getLanguage(), category, keyword,
+                after.isByViews() ? InvertedIndex.Order.VIEWS : InvertedIndex.Order.LATEST);
+
+        int from = 0;
+        while (from < hits.size() && !after.precedes(null, hits.get(from).views(), hits.get(from).informationId())) {
+            from++;
+        }
+        int to = Math.min(from + size, hits.size());
+        boolean hasNext = hits.size() > to;
+
+        List<Long> ids = new ArrayList<>();
+        for (InvertedIndex.Hit hit : hits.subList(from, to)) {
+            ids.add(hit.informationId());
+        }
+        List<InformationSummary> summaries = summariesOf(ids, user.getLanguage());
+
+        String nextCursor = null;
+        if (hasNext && !summaries.isEmpty()) {
+            InvertedIndex.Hit last = hits.get(to - 1);
+            LocalDateTime createdAt = summaries.get(summaries.size() - 1).getCreatedAt();
+            nextCursor = InformationCursor.after(sort, createdAt, last.views(), last.informationId()).encode();
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("informationList", summaryToDto(summaries, user));
+        body.put("hasNext", hasNext);
+        body.put("nextCursor", nextCursor);
+        if (withTotal) {
+            body.put("total", (long) hits.size());
+        }
+        return ResponseEntity.ok().eTag(listETag(user, summaries, nextCursor, body.get("total"))).body(body);
+    }
+
+    // 키워드가 없으면 유지 중인 카테고리 카운터, 있으면 (짧게 캐시한) count
+    private long countTotal(String language, String category, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return informationCountService.categoryTotal(category);
+        }
+        String key = language + "|" + category + "|" + keyword;
+        try {
+            return totalCache.get(key, () -> translatedInformationRepository
+                    .countByLanguageAndCategoryAndTitle(language, category, keyword));
+        } catch (ExecutionException e) {
+            return translatedInformationRepository.countByLanguageAndCategoryAndTitle(language, category, keyword);
+        }
+    }
+
+    public ResponseEntity<?> getInformation(String token, long informationId, String ifNoneMatch,
+                                            String acceptEncoding, HttpServletResponse response) throws IOException {
         Optional<User> user = verifyToken(token);
         if (user.isEmpty()) {
             return ResponseEntity.badRequest().body("유효하지 않은 토큰");
         }
         String language = user.get().getLanguage();
 
-        TranslatedInformation translatedInformation = translatedInformationRepository
-                .findByInformation_InformationIdAndLanguage(informationId, language);
+        // 게시글은 캐시에서, 조회수와 북마크 여부는 요청마다 따로
+        InformationArticle article = articleCacheService.get(informationId, language).orElse(null);
+        if (article == null) {
+            return ResponseEntity.badRequest().body("잘못된 게시글");
+        }
 
-        long state = bookmarkRepository.countByInformation_InformationIdAndUser_UserId
-                (translatedInformation.getInformation().getInformationId(), user.get().getUserId());
+        long state = bookmarkCacheService.isBookmarked(user.get().getUserId(), informationId) ? 1 : 0;
 
+        // 내용이 그대로면 조회수 기록/본문 없이 304 (폴링 요청은 조회로 세지 않음)
+        String eTag = ETags.article(informationId, language, article.version(), state);
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
 
-        translatedInformation.getInformation().setViews(
-                translatedInformation.getInformation().getViews() + 1
-        );
+        // 조회수는 메모리에 모았다가 주기적으로 반영 (조회 경로에서 행 쓰기 제거)
+        long views = viewCountService.recordView(informationId);
+        searchIndexService.updateViews(informationId, views);
 
-        informationRepository.save(translatedInformation.getInformation());
+        // 미리 직렬화해둔 JSON 을 바로 썼으면 응답 완료 (null 반환 시 스프링은 응답을 건드리지 않음)
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        response.setHeader(HttpHeaders.ETAG, eTag); // 아래 두 응답 경로 공통
+        if (articleCacheService.writeResponse(article, language, views, state, gzip, response)) {
+            return null;
+        }
 
         InformationResDto informationResDto = InformationResDto.builder()
-                .category(translatedInformation.getInformation().getCategory())
-                .informationId(translatedInformation.getInformation().getInformationId())
-                .views(translatedInformation.getInformation().getViews())
-                .title(translatedInformation.getTitle())
-                .content(translatedInformation.getContent())
-                .userName(translatedInformation.getInformation().getUser().getName())
-                .createdAt(translatedInformation.getInformation().getCreatedAt())
+                .category(article.category())
+                .informationId(article.informationId())
+                .views(views)
+                .title(article.title())
+                .content(article.content())
+                .userName(article.userName())
+                .createdAt(article.createdAt())
                 .isState(state)
                 .build();
 
@@ -260,7 +412,12 @@ public class InformationService {
             informationFileRepository.delete(informationFile);
         }
 
-        informationRepository.deleteById(informationId);
+        translationOutboxService.cancel(informationId);
+        informationRepository.findById(informationId).ifPresent(information -> {
+            informationCountService.informationRemoved(information.getCategory(), informationId);
+            informationRepository.delete(information);
+        });
+        eventPublisher.publishEvent(new InformationDeletedEvent(informationId)); // 커밋 후 검색 색인에서 제거
 
         return ResponseEntity.ok().body("삭제 완료");
     }
@@ -284,9 +441,13 @@ public class InformationService {
                     .build();
 
             bookmarkRepository.save(bookmark);
+            informationCountService.bookmarkChanged(user.get().getUserId(), true);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(user.get().getUserId(), informationId, true));
             return ResponseEntity.ok().body("북마크 등록");
         }
         bookmarkRepository.delete(bookmark);
+        informationCountService.bookmarkChanged(user.get().getUserId(), false);
+        eventPublisher.publishEvent(new BookmarkChangedEvent(user.get().getUserId(), informationId, false));
         return ResponseEntity.ok().body("북마크 삭제");
     }
 
@@ -337,7 +498,8 @@ public class InformationService {
             }
         }
 
-        translationQueue.enqueue(new TranslationJob(information, informationReqDto, informationId));
+        translationService.saveSource(information, informationReqDto);
+        translationOutboxService.enqueue(informationId, TranslationOutbox.Lane.EDIT);
 
         InformationResDto informationResDto = InformationResDto.builder()
                 .content(informationReqDto.getContent())
@@ -358,27 +520,65 @@ public class InformationService {
             case "views":
                 sortOption = Sort.by(Sort.Direction.DESC, "information.views");
                 break;
+            case "relevance": // DB 검색에는 점수가 없으니 최신순
             default:
                 sortOption = Sort.by(Sort.Direction.DESC, "information.createdAt");
                 break;
         }
 
         String language = user.get().getLanguage();
+
+        if (searchIndexService.canSearch(keyword)) {
+            List<InvertedIndex.Hit> hits = searchIndexService.search(language, category, keyword, searchOrder(sort));
+            int from = Math.min(page * size, hits.size());
+            int to = Math.min(from + size, hits.size());
+
+            List<Long> ids = new ArrayList<>();
+            for (InvertedIndex.Hit hit : hits.subList(from, to)) {
+                ids.add(hit.informationId());
+            }
+
+            List<InformationSummary> summaries = summariesOf(ids, language);
+            return ResponseEntity.ok().eTag(listETag(user.get(), summaries, hits.size())).body(Map.of(
+                    "informationList", summaryToDto(summaries, user.get()),
+                    "total", (long) hits.size()
+            ));
+        }
+
+        // 색인이 아직 준비되지 않았거나 한 글자 한중일 키워드면 DB 검색
         Pageable pageable = PageRequest.of(page, size, sortOption);
 
-        Page<TranslatedInformation> translatedInformationList = translatedInformationRepository
+        List<InformationSummary> summaries = translatedInformationRepository
                 .findByLanguageAndCategoryAndTitle(language, category, keyword, pageable);
 
-        long total = translatedInformationList.getTotalElements();
-
-        List<InformationResDto> informationList = transInfoToDto(translatedInformationList.getContent(), user.get());
+        long total = countTotal(language, category, keyword);
 
-        return ResponseEntity.ok(Map.of(
-                "informationList", informationList,
+        return ResponseEntity.ok().eTag(listETag(user.get(), summaries, total)).body(Map.of(
+                "informationList", summaryToDto(summaries, user.get()),
                 "total", total
         ));
     }
 
+    private InvertedIndex.Order searchOrder(String sort) {
+        switch (sort) {
+            case "views":
+                return InvertedIndex.Order.VIEWS;
+            case "relevance":
+                return InvertedIndex.Order.RELEVANCE;
+            default:
+                return InvertedIndex.Order.LATEST;
+        }
+    }
+
+    public ResponseEntity<?> searchInformationByCursor(String token, String keyword, String cursor, int size,
+                                                       String category, String sort, boolean withTotal) {
+        Optional<User> user = verifyToken(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
+        }
+        return cursorPage(user.get(), category, keyword == null ? "" : keyword, cursor, size, sort, withTotal);
+    }
+
     public ResponseEntity<?> getBookmarking(String token, long userId, int page, int size) {
         Optional<User> user = verifyToken(token);
         if (user.isEmpty()) {
@@ -387,14 +587,14 @@ public class InformationService {
 
         Pageable pageable = PageRequest.of(page, size);
 
-        Page<Information> informationList = informationRepository.findByBookmarkingAndUser_UserId(userId, pageable);
+        List<Long> informationList = informationRepository.findIdsByBookmarkingAndUser_UserId(userId, pageable);
 
-        long total = informationList.getTotalElements();
+        long total = informationCountService.bookmarkTotal(userId);
 
-        List<InformationResDto> informationResDtoList = informationToDto(informationList, user.get());
+        List<InformationSummary> summaries = summariesOf(informationList, user.get().getLanguage());
 
-        return ResponseEntity.ok(Map.of(
-                "informationList", informationResDtoList,
+        return ResponseEntity.ok().eTag(listETag(user.get(), summaries, total)).body(Map.of(
+                "informationList", summaryToDto(summaries, user.get()),
                 "total", total
         ));
     }
@@ -407,92 +607,45 @@ public class InformationService {
 
         long userId = user.get().getUserId();
 
-        String url = aiUrl + "/user/" + userId + "/preferences";
-
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", token);
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-
-        if(!response.getStatusCode().is2xxSuccessful()){
-            return ResponseEntity.status(response.getStatusCode()).body("유저 선호도 불러오기 실패");
-        }
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode;
-        try{
-            rootNode = objectMapper.readTree(response.getBody());
-        }catch(JsonProcessingException e){
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("선호도 불러오기 실패");
-        }
-
-        JsonNode infoPreferences = rootNode.path("info_preferences");
-        if(infoPreferences.isMissingNode()){
-            return ResponseEntity.badRequest().body("info_preferences 항목이 존재하지 않음");
-        }
-
-        Map<String, Double> preferencesMap = new HashMap<>();
-        infoPreferences.fields().forEachRemaining(field -> {
-            preferencesMap.put(field.getKey(), field.getValue().doubleValue());
-        });
+        // 캐시된 선호도 또는 제한 시간 안의 AI 응답, 둘 다 없으면 인기 카테고리
+        Map<String, Double> preferencesMap = aiPreferenceService.getPreferences(userId, token);
 
         List<Map.Entry<String, Double>> sortedTag = preferencesMap.entrySet().stream()
                 .sorted(Map.Entry.<String, Double>comparingByValue().reversed()).toList();
 
-        Map.Entry<String, Double> bestTag = sortedTag.get(0);
-        Map.Entry<String, Double> secondTag = sortedTag.get(1);
-        Map.Entry<String, Double> thirdTag = sortedTag.get(2);
+        // 선호가 뚜렷하면 1순위 2개 + 2순위 1개, 아니면 상위 3개 태그에서 1개씩
+        List<Integer> counts = !sortedTag.isEmpty() && sortedTag.get(0).getValue() >= 0.9
+                ? List.of(2, 1)
+                : List.of(1, 1, 1);
 
         String language = user.get().getLanguage();
-        String sevenDaysAgo = LocalDate.now().minusDays(7).toString();
-
-        List<List<InformationResDto>> informationResDtoList = new ArrayList<>();
-
-        if(bestTag.getValue() >= 0.9){
-            List<TranslatedInformation> infoList = translatedInformationRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            bestTag.getKey(), language, sevenDaysAgo, 2
-                    );
 
-            List<InformationResDto> informationDto = transInfoToDto(infoList, user.get());
-            informationResDtoList.add(informationDto);
-
-            infoList = translatedInformationRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            secondTag.getKey(), language, sevenDaysAgo, 1
-                    );
-
-            informationDto = transInfoToDto(infoList, user.get());
-            informationResDtoList.add(informationDto);
+        List<List<Long>> sampled = new ArrayList<>();
+        List<Long> allIds = new ArrayList<>();
+        for (int i = 0; i < counts.size() && i < sortedTag.size(); i++) {
+            List<Long> ids = recommendationPoolService.sample(sortedTag.get(i).getKey(), language, counts.get(i));
+            sampled.add(ids);
+            allIds.addAll(ids);
         }
-        else{
-            List<TranslatedInformation> infoList = translatedInformationRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            bestTag.getKey(), language, sevenDaysAgo, 1
-                    );
-
-            List<InformationResDto> informationDto = transInfoToDto(infoList, user.get());
-            informationResDtoList.add(informationDto);
-
-            infoList = translatedInformationRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            secondTag.getKey(), language, sevenDaysAgo, 1
-                    );
 
-            informationDto = transInfoToDto(infoList, user.get());
-            informationResDtoList.add(informationDto);
-
-            infoList = translatedInformationRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            thirdTag.getKey(), language, sevenDaysAgo, 1
-                    );
+        // 태그별로 따로 조회하지 않고 한 번에 조립한 뒤 나눈다
+        Map<Long, InformationResDto> dtoById = new HashMap<>();
+        for (InformationResDto dto : informationToDto(allIds, user.get())) {
+            dtoById.put(dto.getInformationId(), dto);
+        }
 
-            informationDto = transInfoToDto(infoList, user.get());
+        List<List<InformationResDto>> informationResDtoList = new ArrayList<>();
+        for (List<Long> ids : sampled) {
+            List<InformationResDto> informationDto = new ArrayList<>();
+            for (Long id : ids) {
+                InformationResDto dto = dtoById.get(id);
+                if (dto != null) {
+                    informationDto.add(dto);
+                }
+            }
             informationResDtoList.add(informationDto);
         }
+
         return ResponseEntity.ok(Map.of(
                 "informationList", informationResDtoList,
                 "analysis", preferencesMap
@@ -0,0 +1,226 @@
+package com.information.service;
+
+import com.information.dto.RecentTranslation;
+import com.information.repository.InformationRepository;
+import com.information.repository.TranslatedInformationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import util.InformationDeletedEvent;
+import util.NamedThreadFactory;
+import util.TranslationSavedEvent;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 후보 풀. (카테고리, 언어)마다 최근 글 id 를 메모리에 들고 있다가 요청 시 k개를 무작위로 뽑는다.
+ * 기동 시 DB에서 한 번 채우고, 이 인스턴스의 번역 저장/게시글 삭제 이벤트로 바로 갱신하며 기간이 지난 글은 주기적으로 뺀다.
+ * 다른 인스턴스에서 저장된 번역은 주기적으로 updatedAt 워터마크 이후 행을 읽어 더하고, 지워진 글은 최근 글 id 와 맞춰서 뺀다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationPoolService {
+    private final TranslatedInformationRepository translatedInformationRepository;
+    private final InformationRepository informationRepository;
+
+    @Value("${recommendation.pool.days:7}")
+    private int poolDays;
+
+    @Value("${recommendation.pool.sweep-interval-ms:60000}")
+    private long sweepIntervalMs;
+
+    @Value("${recommendation.pool.refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
+
+    // 커밋이 늦은 트랜잭션이나 인스턴스 간 시계 차이로 놓치지 않도록 워터마크보다 이만큼 앞에서부터 다시 읽는다
+    @Value("${recommendation.pool.refresh-overlap-seconds:60}")
+    private long refreshOverlapSeconds;
+
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    // 지금까지 읽은 번역 행의 가장 늦은 updatedAt (적재 후에는 갱신 스레드에서만 사용)
+    private LocalDateTime watermark;
+
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void load() {
+        long start = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        List<RecentTranslation> rows = translatedInformationRepository
+                .findRecentTranslations(cutoff());
+        LocalDateTime latest = null;
+        for (RecentTranslation row : rows) {
+            add(row.getInformationId(), row.getCategory(), row.getLanguage(), row.getCreatedAt());
+            if (row.getUpdatedAt() != null && (latest == null || row.getUpdatedAt().isAfter(latest))) {
+                latest = row.getUpdatedAt();
+            }
+        }
+        // 읽는 동안 저장된 행을 놓치지 않도록 시작 시각보다 늦지 않게
+        watermark = latest == null || latest.isAfter(loadStartedAt) ? loadStartedAt : latest;
+        log.info("추천 후보 풀 적재 {}건 소요={}ms", rows.size(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresher = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("recommendation-pool-"));
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMs, refreshIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * 최근 글 중 최대 count 개를 중복 없이 무작위로. 풀 크기와 상관없이 O(count)
+     */
+    public List<Long> sample(String category, String language, int count) {
+        Pool pool = pools.get(key(category, language));
+        if (pool == null) {
+            return new ArrayList<>();
+        }
+        return pool.sample(count, cutoff(), sweepIntervalMs);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationSaved(TranslationSavedEvent event) {
+        add(event.informationId(), event.category(), event.language(), event.createdAt());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInformationDeleted(InformationDeletedEvent event) {
+        for (Pool pool : pools.values()) {
+            pool.remove(event.informationId());
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 저장된 번역을 더하고 지워진 글을 뺀다. 겹쳐 읽은 행은 이미 풀에 있어서 그대로 지나간다
+     */
+    void refresh() {
+        LocalDateTime cutoff = cutoff();
+        int added = 0;
+        for (RecentTranslation row : translatedInformationRepository.findRecentTranslationsUpdatedSince(
+                cutoff, watermark.minusSeconds(refreshOverlapSeconds))) {
+            add(row.getInformationId(), row.getCategory(), row.getLanguage(), row.getCreatedAt());
+            if (row.getUpdatedAt().isAfter(watermark)) {
+                watermark = row.getUpdatedAt();
+            }
+            added++;
+        }
+
+        // 풀에 있는 id 를 먼저 떠두므로 DB 를 읽는 사이 새로 들어온 글은 지우지 않는다
+        Set<Long> pooled = new HashSet<>();
+        for (Pool pool : pools.values()) {
+            pooled.addAll(pool.ids());
+        }
+        pooled.removeAll(informationRepository.findIdsCreatedSince(cutoff));
+        for (Long informationId : pooled) {
+            for (Pool pool : pools.values()) {
+                pool.remove(informationId);
+            }
+        }
+        log.debug("추천 후보 풀 따라잡기 추가 후보={}건 삭제={}건", added, pooled.size());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("추천 후보 풀 따라잡기 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private void add(Long informationId, String category, String language, LocalDateTime created) {
+        if (created == null || created.isBefore(cutoff())) return;
+        pools.computeIfAbsent(key(category, language), key -> new Pool()).add(informationId, created);
+    }
+
+    // 기존 추천 쿼리와 같이 N일 전 자정부터
+    private LocalDateTime cutoff() {
+        return LocalDate.now().minusDays(poolDays).atStartOfDay();
+    }
+
+    private static String key(String category, String language) {
+        return category + "|" + language;
+    }
+
+    // 배열 + 위치 맵이라 추가/삭제/무작위 선택이 모두 O(1)
+    private static class Pool {
+        private final List<Long> ids = new ArrayList<>();
+        private final Map<Long, Integer> positions = new HashMap<>();
+        private final Map<Long, LocalDateTime> createdAt = new HashMap<>();
+        private long sweptAt = System.currentTimeMillis();
+
+        synchronized void add(Long informationId, LocalDateTime created) {
+            if (positions.containsKey(informationId)) return;
+            positions.put(informationId, ids.size());
+            ids.add(informationId);
+            createdAt.put(informationId, created);
+        }
+
+        synchronized List<Long> ids() {
+            return new ArrayList<>(ids);
+        }
+
+        synchronized void remove(Long informationId) {
+            Integer position = positions.remove(informationId);
+            if (position == null) return;
+            createdAt.remove(informationId);
+            Long last = ids.remove(ids.size() - 1); // 마지막 원소를 빈 자리로 옮김
+            if (position < ids.size()) {
+                ids.set(position, last);
+                positions.put(last, position);
+            }
+        }
+
+        synchronized List<Long> sample(int count, LocalDateTime cutoff, long sweepIntervalMs) {
+            if (System.currentTimeMillis() - sweptAt > sweepIntervalMs) {
+                sweep(cutoff);
+            }
+
+            // 앞쪽 count 칸만 부분 셔플. 자리를 바꾼 원소는 위치 맵도 같이 갱신
+            int n = Math.min(count, ids.size());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Long> picked = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                int j = i + random.nextInt(ids.size() - i);
+                Long chosen = ids.get(j);
+                Long displaced = ids.get(i);
+                ids.set(i, chosen);
+                ids.set(j, displaced);
+                positions.put(chosen, i);
+                positions.put(displaced, j);
+                picked.add(chosen);
+            }
+            return picked;
+        }
+
+        private void sweep(LocalDateTime cutoff) {
+            sweptAt = System.currentTimeMillis();
+            List<Long> expired = new ArrayList<>();
+            createdAt.forEach((informationId, created) -> {
+                if (created.isBefore(cutoff)) expired.add(informationId);
+            });
+            expired.forEach(this::remove);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.information.service;
+
+import com.information.dto.IndexedTranslation;
+import com.information.repository.InformationRepository;
+import com.information.repository.TranslatedInformationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import util.InformationDeletedEvent;
+import util.InvertedIndex;
+import util.NamedThreadFactory;
+import util.RichContentText;
+import util.SearchTokenizer;
+import util.TranslationSavedEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 언어별 검색 색인. 기동 시 DB에서 한 번 채우고, 이 인스턴스의 번역 저장/게시글 삭제 이벤트로 바로 갱신한다.
+ * 다른 인스턴스에서 저장된 번역은 주기적으로 updatedAt 이후 행을 다시 읽어 따라잡고,
+ * 지워진 글과 조회수는 그보다 긴 주기로 게시글 id 전체와 맞춘다.
+ * 색인이 준비되기 전이나 색인으로 찾을 수 없는 키워드면 canSearch() 가 false 라서 호출하는 쪽이 DB 검색을 사용한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+    private final TranslatedInformationRepository translatedInformationRepository;
+    private final InformationRepository informationRepository;
+
+    @Value("${search.index.rebuild-chunk-size:500}")
+    private int rebuildChunkSize;
+
+    @Value("${search.index.refresh-interval-ms:30000}")
+    private long refreshIntervalMs;
+
+    // 커밋이 늦은 트랜잭션이나 인스턴스 간 시계 차이로 놓치지 않도록 워터마크보다 이만큼 앞에서부터 다시 읽는다
+    @Value("${search.index.refresh-overlap-seconds:60}")
+    private long refreshOverlapSeconds;
+
+    @Value("${search.index.reconcile-interval-ms:600000}")
+    private long reconcileIntervalMs;
+
+    @Value("${search.index.reconcile-chunk-size:5000}")
+    private int reconcileChunkSize;
+
+    private final Map<String, InvertedIndex> indexes = new ConcurrentHashMap<>();
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready = false;
+
+    // 따라잡기 워터마크. 지금까지 읽은 번역 행의 가장 늦은 updatedAt (색인 스레드에서만 사용)
+    private LocalDateTime watermark;
+
+    // 재구축, 따라잡기, 맞추기가 한 스레드에서 차례로 돈다
+    private ScheduledExecutorService indexer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        indexer = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("search-index-"));
+        indexer.execute(this::load);
+        indexer.scheduleWithFixedDelay(this::refreshQuietly, refreshIntervalMs, refreshIntervalMs,
+                TimeUnit.MILLISECONDS);
+        indexer.scheduleWithFixedDelay(this::reconcileQuietly, reconcileIntervalMs, reconcileIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (indexer != null) {
+            indexer.shutdownNow();
+        }
+    }
+
+    // 색인으로 답할 수 있는 키워드인지. 한 글자 한중일 키워드는 2글자 조각 색인에 없으므로 DB 검색을 쓴다
+    public boolean canSearch(String keyword) {
+        return ready && keyword != null && !keyword.isBlank() && !SearchTokenizer.hasSingleCjk(keyword);
+    }
+
+    /**
+     * 키워드 검색. category 가 '전체' 면 전체에서 찾는다
+     */
+    public List<InvertedIndex.Hit> search(String language, String category, String keyword, InvertedIndex.Order order) {
+        return index(language).search(keyword, language, "전체".equals(category) ? null : category, order);
+    }
+
+    // 락 없이 갱신되므로 상세 조회마다 불러도 검색과 경쟁하지 않는다
+    public void updateViews(Long informationId, long views) {
+        for (InvertedIndex index : indexes.values()) {
+            index.updateViews(informationId, views);
+        }
+    }
+
+    // 이 인스턴스에서 저장된 번역은 따라잡기를 기다리지 않고 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranslationSaved(TranslationSavedEvent event) {
+        index(event.language()).put(event.informationId(), event.category(),
+                event.views() == null ? 0 : event.views(), event.language(),
+                event.title(), RichContentText.plainText(event.content()), false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInformationDeleted(InformationDeletedEvent event) {
+        if (!ready) {
+            removedDuringRebuild.add(event.informationId());
+        }
+        for (InvertedIndex index : indexes.values()) {
+            index.remove(event.informationId());
+        }
+    }
+
+    // 재구축 중에 들어온 이벤트가 더 최신이므로 이미 색인된 글은 건너뜀
+    private void load() {
+        long start = System.currentTimeMillis();
+        LocalDateTime loadStartedAt = LocalDateTime.now();
+        LocalDateTime latest = null;
+        long after = 0;
+        int loaded = 0;
+        try {
+            List<IndexedTranslation> rows;
+            while (!(rows = translatedInformationRepository
+                    .findIndexRowsAfter(after, PageRequest.of(0, rebuildChunkSize))).isEmpty()) {
+                for (IndexedTranslation row : rows) {
+                    if (row.getUpdatedAt() != null && (latest == null || row.getUpdatedAt().isAfter(latest))) {
+                        latest = row.getUpdatedAt();
+                    }
+                    if (removedDuringRebuild.contains(row.getInformationId())) continue;
+                    put(row, true);
+                }
+                loaded += rows.size();
+                after = rows.get(rows.size() - 1).getTranslatedInformationId();
+            }
+            // 재구축 중에 id 가 앞쪽인 행이 수정됐을 수 있으므로 시작 시각 이전부터 따라잡는다
+            watermark = latest == null || latest.isAfter(loadStartedAt) ? loadStartedAt : latest;
+            ready = true;
+            removedDuringRebuild.clear();
+            log.info("검색 색인 재구축 완료 {}건 소요={}ms", loaded, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("검색 색인 재구축 실패, 다음 주기까지 DB 검색 사용", e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 저장된 번역을 반영한다. 워터마크보다 조금 앞에서부터 (updatedAt, id) 순으로 읽어서
+     * 교체하므로 겹쳐 읽은 행은 같은 내용으로 다시 들어갈 뿐이다
+     */
+    void refresh() {
+        if (!ready) {
+            load(); // 재구축이 실패했으면 다시
+            return;
+        }
+        LocalDateTime since = watermark.minusSeconds(refreshOverlapSeconds);
+        long after = 0;
+        int refreshed = 0;
+        List<IndexedTranslation> rows;
+        while (!(rows = translatedInformationRepository
+                .findIndexRowsUpdatedSince(since, after, PageRequest.of(0, rebuildChunkSize))).isEmpty()) {
+            for (IndexedTranslation row : rows) {
+                put(row, false);
+            }
+            IndexedTranslation last = rows.get(rows.size() - 1);
+            since = last.getUpdatedAt();
+            after = last.getTranslatedInformationId();
+            if (since.isAfter(watermark)) {
+                watermark = since;
+            }
+            refreshed += rows.size();
+        }
+        log.debug("검색 색인 따라잡기 {}건", refreshed);
+    }
+
+    /**
+     * 다른 인스턴스에서 지워진 글을 색인에서 빼고 조회수를 DB 값으로 맞춘다.
+     * 색인 id 는 DB 를 읽기 전에 떠두므로, 읽는 도중에 새로 색인된 글을 없는 글로 오해하지 않는다
+     */
+    void reconcile() {
+        if (!ready) return;
+        long start = System.currentTimeMillis();
+        Set<Long> indexedIds = new HashSet<>();
+        for (InvertedIndex index : indexes.values()) {
+            indexedIds.addAll(index.indexedIds());
+        }
+        long[] indexed = indexedIds.stream().mapToLong(Long::longValue).sorted().toArray();
+
+        // 두 목록 모두 id 순이라 나란히 훑으면서 DB 에 없는 id 를 고른다
+        List<Long> missing = new ArrayList<>();
+        int position = 0;
+        long after = 0;
+        List<Object[]> rows;
+        while (!(rows = informationRepository
+                .findIdsAndViewsAfter(after, PageRequest.of(0, reconcileChunkSize))).isEmpty()) {
+            for (Object[] row : rows) {
+                long informationId = (Long) row[0];
+                while (position < indexed.length && indexed[position] < informationId) {
+                    missing.add(indexed[position++]);
+                }
+                if (position < indexed.length && indexed[position] == informationId) {
+                    position++;
+                }
+                if (row[1] != null) {
+                    updateViews(informationId, (Long) row[1]);
+                }
+            }
+            after = (Long) rows.get(rows.size() - 1)[0];
+        }
+        while (position < indexed.length) {
+            missing.add(indexed[position++]);
+        }
+
+        for (Long informationId : missing) {
+            for (InvertedIndex index : indexes.values()) {
+                index.remove(informationId);
+            }
+        }
+        log.info("검색 색인 맞추기 완료 삭제={}건 소요={}ms", missing.size(), System.currentTimeMillis() - start);
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("검색 색인 따라잡기 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("검색 색인 맞추기 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private void put(IndexedTranslation row, boolean ifAbsent) {
+        index(row.getLanguage()).put(row.getInformationId(), row.getCategory(),
+                row.getViews() == null ? 0 : row.getViews(), row.getLanguage(),
+                row.getTitle(), RichContentText.plainText(row.getContent()), ifAbsent);
+    }
+
+    private InvertedIndex index(String language) {
+        return indexes.computeIfAbsent(language, key -> new InvertedIndex());
+    }
+}
@@ -0,0 +1,57 @@
+package com.information.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트/벤치마크용 가짜 번역기. 외부 호출 없이 지연과 오류를 흉내낸다
+ */
+@Service
+@ConditionalOnProperty(name = "translation.provider", havingValue = "stub")
+public class StubTranslationProvider implements TranslationProvider {
+    @Value("${translation.stub.latency-ms:100}")
+    private long latencyMs;
+
+    @Value("${translation.stub.jitter-ms:50}")
+    private long jitterMs;
+
+    @Value("${translation.stub.error-rate:0.0}") // 일반 오류 비율
+    private double errorRate;
+
+    @Value("${translation.stub.throttle-rate:0.0}") // 429 응답 비율
+    private double throttleRate;
+
+    @Override
+    public String getName() {
+        return "stub";
+    }
+
+    @Override
+    public CompletableFuture<List<String>> translate(List<String> texts, String sourceLang, String targetLang) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = latencyMs + (jitterMs > 0 ? random.nextLong(jitterMs + 1) : 0);
+        double roll = random.nextDouble();
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (roll < throttleRate) {
+                throw new TranslationProviderException("stub 429", true, Duration.ofSeconds(1));
+            }
+            if (roll < throttleRate + errorRate) {
+                throw new TranslationProviderException("stub 오류", false, null);
+            }
+            List<String> result = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                result.add("[" + targetLang + "] " + text);
+            }
+            return result;
+        }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,139 @@
+package com.information.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.information.entity.TranslationMemory;
+import com.information.repository.TranslationMemoryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 번역 메모리. (원문, 원문 언어, 대상 언어) 해시로 이전 번역 결과를 재사용해서 API 호출을 줄인다.
+ * 1차는 프로세스 내 LRU, 2차는 DB
+ */
+@Slf4j
+@Service
+public class TranslationMemoryService {
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, String> localCache;
+
+    private final Counter localHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    public TranslationMemoryService(TranslationMemoryRepository translationMemoryRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${translation.memory.local-size:50000}") long localSize) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(localSize)
+                .build();
+
+        this.localHits = Counter.builder("translation.memory.lookups").tag("result", "local_hit")
+                .register(meterRegistry);
+        this.dbHits = Counter.builder("translation.memory.lookups").tag("result", "db_hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("translation.memory.lookups").tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("translation.memory.hit.ratio", this, TranslationMemoryService::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder("translation.memory.local.size", localCache, Cache::size)
+                .register(meterRegistry);
+    }
+
+    public String hash(String text, String sourceLang, String targetLang) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(sourceLang.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(targetLang.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 여러 문장을 한 번에 조회. 로컬에 없는 것만 DB에서 한 번에 가져온다
+     * @return 인덱스 → 번역 결과 (찾은 것만)
+     */
+    public Map<Integer, String> lookup(List<String> texts, String sourceLang, String targetLang) {
+        Map<Integer, String> found = new HashMap<>();
+        Map<String, List<Integer>> dbLookup = new HashMap<>();
+
+        for (int i = 0; i < texts.size(); i++) {
+            String key = hash(texts.get(i), sourceLang, targetLang);
+            String cached = localCache.getIfPresent(key);
+            if (cached != null) {
+                found.put(i, cached);
+                localHits.increment();
+            } else {
+                dbLookup.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        if (!dbLookup.isEmpty()) {
+            try {
+                for (TranslationMemory memory : translationMemoryRepository.findAllById(dbLookup.keySet())) {
+                    localCache.put(memory.getSourceHash(), memory.getTranslatedText());
+                    for (int index : dbLookup.get(memory.getSourceHash())) {
+                        found.put(index, memory.getTranslatedText());
+                        dbHits.increment();
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("번역 메모리 DB 조회 실패", e); // DB 조회 실패 시 그냥 API로 번역
+            }
+        }
+
+        misses.increment(texts.size() - found.size());
+        return found;
+    }
+
+    /**
+     * 새 번역 결과를 한 번의 JDBC 배치로 저장. 이미 있는 키(다른 워커가 먼저 저장한 경우)는 그대로 둔다
+     */
+    public void store(List<String> texts, List<String> translated, String sourceLang, String targetLang) {
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < texts.size(); i++) {
+            String key = hash(texts.get(i), sourceLang, targetLang);
+            if (localCache.getIfPresent(key) != null) continue;
+
+            localCache.put(key, translated.get(i));
+            rows.putIfAbsent(key, new Object[]{key, sourceLang, targetLang, translated.get(i), now});
+        }
+        if (rows.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate("insert into translation_memory " +
+                    "(source_hash, source_lang, target_lang, translated_text, created_at) values (?, ?, ?, ?, ?) " +
+                    "on duplicate key update source_hash = source_hash", new ArrayList<>(rows.values()));
+        } catch (Exception e) {
+            log.warn("번역 메모리 저장 실패 {}건", rows.size(), e);
+        }
+    }
+
+    private double hitRatio() {
+        double hits = localHits.count() + dbHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+}
@@ -0,0 +1,269 @@
+package com.information.service;
+
+import com.information.entity.TranslationOutbox;
+import com.information.repository.TranslationOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import util.TranslationEnqueuedEvent;
+import util.TranslationMetrics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 번역 작업 아웃박스. (informationId, language) 당 한 행으로 진행 상태를 DB에 남겨서
+ * 재시작/배포 중에도 작업을 잃지 않고 이어서 처리한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranslationOutboxService {
+    private final TranslationOutboxRepository translationOutboxRepository;
+    private final TranslationService translationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final TranslationMetrics translationMetrics;
+
+    @Value("${translation.outbox.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${translation.outbox.backoff-base-seconds:30}")
+    private long backoffBaseSeconds;
+
+    @Value("${translation.outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Value("${translation.outbox.claim-timeout-seconds:600}")
+    private long claimTimeoutSeconds;
+
+    @Value("${translation.outbox.lane-weight.new:6}")
+    private int newLaneWeight;
+
+    @Value("${translation.outbox.lane-weight.edit:3}")
+    private int editLaneWeight;
+
+    @Value("${translation.outbox.lane-weight.backfill:1}")
+    private int backfillLaneWeight;
+
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        coalescedCounter = Counter.builder("translation.queue.coalesced")
+                .description("처리 전에 새 요청으로 합쳐진 번역 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원문(KO) 저장 후 호출. 번역 대상 언어마다 대기 행을 만들거나 기존 행을 다시 대기 상태로 돌린다
+     */
+    @Transactional
+    public void enqueue(Long informationId, TranslationOutbox.Lane lane) {
+        List<String> languages = new ArrayList<>();
+        for (String language : translationService.getTargetLanguages()) {
+            if (!language.equals("KO")) languages.add(language);
+        }
+        enqueue(informationId, languages, lane);
+    }
+
+    /**
+     * 같은 (informationId, language) 행이 이미 대기 중이면 새 요청으로 합쳐서 한 번만 번역한다.
+     * 처리 중인 행은 revision 만 올려두고, 워커가 끝낼 때 revision 이 바뀌었으면 다시 대기 상태로 돌린다.
+     * 읽고 저장하는 대신 한 문장 upsert 라서 워커의 완료 기록이나 다른 파드의 enqueue 와 겹쳐도 요청을 잃지 않는다
+     */
+    @Transactional
+    public void enqueue(Long informationId, Collection<String> languages, TranslationOutbox.Lane lane) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String language : languages) {
+            // 지표용이라 잠그지 않고 읽는다
+            TranslationOutbox.Status status = translationOutboxRepository.findStatus(informationId, language);
+            if (status == TranslationOutbox.Status.PENDING
+                    || status == TranslationOutbox.Status.FAILED
+                    || status == TranslationOutbox.Status.IN_PROGRESS) {
+                coalescedCounter.increment();
+            }
+            // 더 급한 레인 유지 (새 글이 번역되기 전에 수정되면 계속 새 글 레인)
+            translationOutboxRepository.upsert(informationId, language, lane.name(), now);
+        }
+        eventPublisher.publishEvent(new TranslationEnqueuedEvent(informationId)); // 커밋 후 워커 깨움
+    }
+
+    // 백필용. 여러 게시글의 한 언어를 한 트랜잭션으로 넣는다
+    @Transactional
+    public void enqueueAll(List<Long> informationIds, String language, TranslationOutbox.Lane lane) {
+        for (Long informationId : informationIds) {
+            enqueue(informationId, List.of(language), lane);
+        }
+    }
+
+    // 레인의 대기 행 수 (PENDING/FAILED, language 가 null 이면 전체 언어)
+    public long countPending(TranslationOutbox.Lane lane, String language, boolean includeInProgress) {
+        List<TranslationOutbox.Status> statuses = new ArrayList<>(
+                List.of(TranslationOutbox.Status.PENDING, TranslationOutbox.Status.FAILED));
+        if (includeInProgress) {
+            statuses.add(TranslationOutbox.Status.IN_PROGRESS);
+        }
+        if (language == null) {
+            return translationOutboxRepository.countByLaneAndStatusIn(lane, statuses);
+        }
+        return translationOutboxRepository.countByLanguageAndLaneAndStatusIn(language, lane, statuses);
+    }
+
+    // 대기 중인 것만 지움. 처리 중인 행은 그대로 끝낸다
+    @Transactional
+    public int cancelPending(String language, TranslationOutbox.Lane lane) {
+        return translationOutboxRepository.deleteByLanguageAndLaneAndStatusIn(language, lane,
+                List.of(TranslationOutbox.Status.PENDING, TranslationOutbox.Status.FAILED));
+    }
+
+    /**
+     * 레인별 가중치만큼 나눠서 가져온다. 앞 레인에 일이 많아도 뒤 레인이 굶지 않도록
+     * 각 레인에 몫을 먼저 주고, 남는 자리는 앞 레인부터 채운다
+     */
+    @Transactional
+    public List<TranslationOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox.Lane[] lanes = TranslationOutbox.Lane.values();
+        int totalWeight = 0;
+        for (TranslationOutbox.Lane lane : lanes) {
+            totalWeight += laneWeight(lane);
+        }
+
+        List<TranslationOutbox> claimed = new ArrayList<>();
+        for (TranslationOutbox.Lane lane : lanes) {
+            int share = Math.max(1, limit * laneWeight(lane) / totalWeight);
+            claimed.addAll(translationOutboxRepository.findClaimable(lane.name(), now,
+                    Math.min(share, limit - claimed.size())));
+            if (claimed.size() >= limit) break;
+        }
+        for (TranslationOutbox.Lane lane : lanes) {
+            if (claimed.size() >= limit) break;
+            Set<Long> already = new HashSet<>();
+            for (TranslationOutbox outbox : claimed) {
+                already.add(outbox.getOutboxId());
+            }
+            for (TranslationOutbox outbox : translationOutboxRepository.findClaimable(lane.name(), now, limit)) {
+                if (claimed.size() >= limit) break;
+                if (already.add(outbox.getOutboxId())) claimed.add(outbox);
+            }
+        }
+
+        for (TranslationOutbox outbox : claimed) {
+            outbox.setStatus(TranslationOutbox.Status.IN_PROGRESS);
+            outbox.setClaimedAt(now);
+            outbox.setAttempts(outbox.getAttempts() + 1);
+        }
+        return claimed;
+    }
+
+    /**
+     * 완료 기록. 처리하는 동안 새 요청이 들어왔으면(revision 변경) 다시 대기 상태로
+     */
+    @Transactional
+    public void markDone(Long outboxId, long revision) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!finish(outboxId, revision, TranslationOutbox.Status.DONE, now, null, now)) return;
+
+        // 이 게시글의 마지막 언어가 끝났으면 작성부터 걸린 시간 기록
+        translationOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            if (outbox.getLane() != TranslationOutbox.Lane.BACKFILL && outbox.getEnqueuedAt() != null
+                    && translationOutboxRepository.countByInformationIdAndStatusNot(
+                    outbox.getInformationId(), TranslationOutbox.Status.DONE) == 0) {
+                translationMetrics.recordEndToEnd(outbox.getLane().name().toLowerCase(),
+                        Duration.between(outbox.getEnqueuedAt(), now));
+            }
+        });
+    }
+
+    // 레인별 대기(PENDING/FAILED) 행 수
+    public Map<TranslationOutbox.Lane, Long> countPendingByLane() {
+        Map<TranslationOutbox.Lane, Long> counts = new EnumMap<>(TranslationOutbox.Lane.class);
+        for (TranslationOutbox.Lane lane : TranslationOutbox.Lane.values()) {
+            counts.put(lane, 0L);
+        }
+        for (Object[] row : translationOutboxRepository.countByLane(
+                List.of(TranslationOutbox.Status.PENDING, TranslationOutbox.Status.FAILED))) {
+            if (row[0] != null) counts.put((TranslationOutbox.Lane) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private int laneWeight(TranslationOutbox.Lane lane) {
+        return switch (lane) {
+            case NEW -> newLaneWeight;
+            case EDIT -> editLaneWeight;
+            case BACKFILL -> backfillLaneWeight;
+        };
+    }
+
+    /**
+     * 실패 기록. 재시도 간격은 지수적으로 늘리고 최대 시도 횟수를 넘기면 DEAD 처리.
+     * 처리하는 동안 새 요청이 들어왔으면(revision 변경) 실패로 치지 않고 다시 대기 상태로
+     */
+    @Transactional
+    public void markFailed(Long outboxId, long revision, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        if (requeueIfChanged(outboxId, revision, now)) return;
+
+        translationOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            String lastError = error == null ? null : error.substring(0, Math.min(error.length(), 1000));
+            // 시도 횟수는 claim 에서만 바뀌므로 처리 중에는 읽은 값 그대로다
+            if (outbox.getAttempts() >= maxAttempts) {
+                if (finish(outboxId, revision, TranslationOutbox.Status.DEAD, outbox.getNextAttemptAt(), lastError, now)) {
+                    log.warn("번역 재시도 횟수 초과 informationId={} language={}",
+                            outbox.getInformationId(), outbox.getLanguage());
+                }
+                return;
+            }
+
+            long backoff = backoffBaseSeconds << Math.min(Math.max(0, outbox.getAttempts() - 1), 20);
+            finish(outboxId, revision, TranslationOutbox.Status.FAILED,
+                    now.plusSeconds(Math.min(backoff, backoffMaxSeconds)), lastError, now);
+        });
+    }
+
+    // revision 이 맞는 처리 중 행에만 기록. 그 사이 enqueue 가 revision 을 올렸으면 다시 대기로
+    private boolean finish(Long outboxId, long revision, TranslationOutbox.Status status,
+                           LocalDateTime nextAttemptAt, String lastError, LocalDateTime now) {
+        if (translationOutboxRepository.finish(outboxId, revision, status, nextAttemptAt, lastError, now,
+                TranslationOutbox.Status.IN_PROGRESS) == 1) {
+            return true;
+        }
+        requeueIfChanged(outboxId, revision, now);
+        return false;
+    }
+
+    private boolean requeueIfChanged(Long outboxId, long revision, LocalDateTime now) {
+        return translationOutboxRepository.requeue(outboxId, revision, now,
+                TranslationOutbox.Status.IN_PROGRESS, TranslationOutbox.Status.PENDING) == 1;
+    }
+
+    // 시작하지 못하고 종료되는 작업은 다른 워커가 바로 가져가도록 반납
+    @Transactional
+    public void release(List<Long> outboxIds) {
+        if (outboxIds.isEmpty()) return;
+        translationOutboxRepository.release(outboxIds,
+                TranslationOutbox.Status.IN_PROGRESS, TranslationOutbox.Status.PENDING);
+    }
+
+    // 완료 보고 없이 오래된 작업(워커가 죽은 경우)을 다시 대기 상태로
+    @Transactional
+    public int releaseStale() {
+        return translationOutboxRepository.releaseStale(
+                LocalDateTime.now().minusSeconds(claimTimeoutSeconds),
+                TranslationOutbox.Status.IN_PROGRESS, TranslationOutbox.Status.PENDING);
+    }
+
+    @Transactional
+    public void cancel(Long informationId) {
+        translationOutboxRepository.deleteByInformationId(informationId);
+    }
+}
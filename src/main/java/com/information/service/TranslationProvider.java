@@ -0,0 +1,17 @@
+package com.information.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 번역 API 제공자. translation.provider 설정으로 구현체를 고른다 (google, stub)
+ */
+public interface TranslationProvider {
+    String getName();
+
+    /**
+     * 입력과 같은 순서로 번역 결과를 돌려준다.
+     * 실패 시 TranslationProviderException 으로 완료
+     */
+    CompletableFuture<List<String>> translate(List<String> texts, String sourceLang, String targetLang);
+}
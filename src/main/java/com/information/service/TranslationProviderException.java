@@ -0,0 +1,23 @@
+package com.information.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TranslationProviderException extends RuntimeException {
+    private final boolean throttled; // 429/5xx, 속도를 줄여야 하는 응답
+    private final Duration retryAfter;
+
+    public TranslationProviderException(String message, boolean throttled, Duration retryAfter) {
+        super(message);
+        this.throttled = throttled;
+        this.retryAfter = retryAfter;
+    }
+
+    public TranslationProviderException(String message, Throwable cause) {
+        super(message, cause);
+        this.throttled = false;
+        this.retryAfter = null;
+    }
+}
@@ -3,135 +3,326 @@ package com.information.service;
 import com.information.dto.InformationReqDto;
 import com.information.entity.Information;
 import com.information.entity.TranslatedInformation;
+import com.information.repository.InformationRepository;
 import com.information.repository.TranslatedInformationRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import util.TranslationMetrics;
 import util.TranslationRateLimiter;
+import util.TranslationSavedEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TranslationService {
-    @Value("${translation.api-key}")
-    private String apiKey;
+    @Value("${translation.batch.max-segments:128}") // 요청당 q 최대 개수
+    private int maxBatchSegments;
 
-    private static final String API_URL = "https://translation.googleapis.com/language/translate/v2";
+    @Value("${translation.batch.max-bytes:30000}") // 요청당 q 총 바이트
+    private int maxBatchBytes;
 
-    private final String[] targetLanguage = {"KO", "EN", "JA", "ZH", "DE", "FR", "ES", "RU"};
-    private final String[] GoogleTargetLanguage = {"ko", "en", "ja", "zh-CN", "de", "fr", "es", "ru"};
+    // 서비스 언어:번역 API 언어 코드. 언어를 추가하면 기존 글은 백필로 채운다
+    @Value("${translation.languages:KO:ko,EN:en,JA:ja,ZH:zh-CN,DE:de,FR:fr,ES:es,RU:ru}")
+    private String languageConfig;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final Map<String, String> GoogleTargetLanguage = new LinkedHashMap<>();
+
+    private final TranslationProvider translationProvider;
+
+    private final ObjectMapper mapper;
 
     private final TranslationRateLimiter rateLimiter;
 
+    private final TranslationMetrics translationMetrics;
+
+    private final TranslationMemoryService translationMemoryService;
+
     private final TranslatedInformationRepository translatedInformationRepository;
 
-    public void translateInformation(Information information, InformationReqDto informationReqDto,
-                                     Long informationId) throws JsonProcessingException {
-        for (int i = 0; i < targetLanguage.length; i++) { // 9개 언어로 번역해서 저장
-            TranslatedInformation translatedInformation;
-            if (informationId == null) {
-                translatedInformation = new TranslatedInformation();
-            } else {
-                translatedInformation = translatedInformationRepository
-                        .findByInformation_InformationIdAndLanguage(informationId, targetLanguage[i]);
+    private final InformationRepository informationRepository;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    public void loadLanguages() {
+        for (String pair : languageConfig.split(",")) {
+            String[] codes = pair.trim().split(":");
+            GoogleTargetLanguage.put(codes[0].trim(), codes[1].trim());
+        }
+    }
+
+    // 요약 컬럼 추가 전에 저장된 번역 행 채우기. 기동을 막지 않도록 별도 스레드에서 조금씩
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingExcerpts() {
+        Thread thread = new Thread(() -> {
+            int filled = 0;
+            try {
+                List<TranslatedInformation> rows;
+                while (!(rows = translatedInformationRepository.findTop200ByExcerptIsNullAndContentIsNotNull()).isEmpty()) {
+                    for (TranslatedInformation row : rows) {
+                        row.updateExcerpt(); // 분리된 엔티티라 값 계산에만 쓰고 행 전체는 저장하지 않는다
+                        filled += translatedInformationRepository.fillExcerpt(
+                                row.getTranslatedInformationId(), row.getExcerpt(), row.getWordCount());
+                    }
+                }
+            } catch (Exception e) {
+                log.error("목록 요약 채우기 실패", e);
             }
-            translatedInformation.setInformation(information);
-            translatedInformation.setLanguage(targetLanguage[i]);
-
-            if (targetLanguage[i].equals("KO")) {
-                translatedInformation.setContent(informationReqDto.getContent());
-                translatedInformation.setTitle(informationReqDto.getTitle());
-                translatedInformationRepository.save(translatedInformation);
-                continue;
+            if (filled > 0) {
+                log.info("목록 요약 {}건 채움", filled);
             }
+        }, "excerpt-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public List<String> getTargetLanguages() {
+        return List.copyOf(GoogleTargetLanguage.keySet());
+    }
+
+    /**
+     * 원문(KO) 저장. 다른 언어 번역은 아웃박스를 통해 비동기로 이 행을 원문으로 사용한다
+     */
+    public TranslatedInformation saveSource(Information information, InformationReqDto informationReqDto) {
+        TranslatedInformation source = translatedInformationRepository
+                .findByInformation_InformationIdAndLanguage(information.getInformationId(), "KO");
+        if (source == null) {
+            source = new TranslatedInformation();
+        }
+        source.setInformation(information);
+        source.setLanguage("KO");
+        source.setContent(informationReqDto.getContent());
+        source.setTitle(informationReqDto.getTitle());
+        source = translatedInformationRepository.save(source);
+        publishSaved(source);
+        return source;
+    }
+
+    /**
+     * 한 언어에 대한 번역 후 저장. 언어별로 독립적이라 워커 풀에서 병렬로 호출된다
+     * @return 저장 성공 여부
+     */
+    public boolean translateLanguage(Long informationId, String language) throws JsonProcessingException {
+        TranslatedInformation source = translatedInformationRepository
+                .findByInformation_InformationIdAndLanguage(informationId, "KO");
+        if (source == null) {
+            throw new IllegalStateException("원문 없음 informationId=" + informationId);
+        }
+
+        String googleLanguage = GoogleTargetLanguage.get(language);
+        if (googleLanguage == null) {
+            throw new IllegalArgumentException("지원하지 않는 언어 " + language);
+        }
+
+        TranslatedInformation translatedInformation = translatedInformationRepository
+                .findByInformation_InformationIdAndLanguage(informationId, language);
+        if (translatedInformation == null) {
+            translatedInformation = new TranslatedInformation();
+        }
+        translatedInformation.setInformation(source.getInformation());
+        translatedInformation.setLanguage(language);
+
+        // 수정 시 이전 번역의 원문과 비교해서 바뀌지 않은 제목/문장은 기존 번역을 그대로 사용
+        if (source.getTitle().equals(translatedInformation.getSourceTitle())
+                && source.getContent().equals(translatedInformation.getSourceContent())) {
+            return true;
+        }
+
+        Map<String, String> previous = previousTranslations(translatedInformation);
+
+        JsonNode root = mapper.readTree(source.getContent());
+
+        List<ObjectNode> textNodes = new ArrayList<>();
+        collectTextNodes(root, textNodes);
 
-            String translatedTitle = translate(
-                    informationReqDto.getTitle(), "ko", GoogleTargetLanguage[i]);
+        String translatedTitle = null;
+        if (source.getTitle().equals(translatedInformation.getSourceTitle())) {
+            translatedTitle = translatedInformation.getTitle();
+        }
 
-            String translatedContent = translateRichContent(informationReqDto.getContent(),
-                    "ko", GoogleTargetLanguage[i]);
+        List<String> segments = new ArrayList<>(); // 바뀐 제목 + 바뀐/추가된 text 노드만 한 번에 번역
+        if (translatedTitle == null) {
+            segments.add(source.getTitle());
+        }
+        List<ObjectNode> changedNodes = new ArrayList<>();
+        for (ObjectNode textNode : textNodes) {
+            String reused = previous.get(textNode.get("text").asText());
+            if (reused != null) {
+                textNode.put("text", reused);
+            } else {
+                changedNodes.add(textNode);
+                segments.add(textNode.get("text").asText());
+            }
+        }
 
-            if (translatedTitle.isEmpty() || translatedContent.isEmpty()) continue;
+        if (!segments.isEmpty()) {
+            List<String> translated = translateBatch(segments, "ko", googleLanguage);
+            if (translated == null) return false;
 
-            translatedInformation.setContent(translatedContent);
-            translatedInformation.setTitle(translatedTitle);
-            translatedInformationRepository.save(translatedInformation);
+            int offset = 0;
+            if (translatedTitle == null) {
+                translatedTitle = translated.get(0);
+                offset = 1;
+            }
+            for (int j = 0; j < changedNodes.size(); j++) {
+                changedNodes.get(j).put("text", translated.get(j + offset));
+            }
         }
+        String translatedContent = mapper.writeValueAsString(root);
+
+        if (translatedTitle.isEmpty() || translatedContent.isEmpty()) return false;
+
+        translatedInformation.setContent(translatedContent);
+        translatedInformation.setTitle(translatedTitle);
+        translatedInformation.setSourceTitle(source.getTitle());
+        translatedInformation.setSourceContent(source.getContent());
+        translatedInformationRepository.save(translatedInformation);
+        publishSaved(translatedInformation);
+        return true;
     }
 
-    public String translate(String text, String sourceLang, String targetLang) {
-        try {
+    // 내용 버전을 올리고 저장 이벤트 발행 (캐시/색인/ETag 갱신)
+    private void publishSaved(TranslatedInformation translatedInformation) {
+        Information information = translatedInformation.getInformation();
+        informationRepository.incrementContentVersion(information.getInformationId());
+        eventPublisher.publishEvent(new TranslationSavedEvent(information.getInformationId(),
+                translatedInformation.getLanguage(), information.getCategory(), information.getViews(),
+                information.getCreatedAt(), translatedInformation.getTitle(), translatedInformation.getContent()));
+    }
 
-            rateLimiter.acquire(); // 속도 제한
+    /**
+     * 이전 번역 당시의 원문 트리와 번역 트리는 text 값만 다르고 구조가 같으므로
+     * 순서대로 짝지어 원문 문장 → 번역 문장 맵을 만든다. 삭제된 노드는 새 트리에 없으니 자연히 빠지고,
+     * 위치만 옮겨진 노드는 문장으로 찾기 때문에 다시 번역하지 않는다
+     */
+    private Map<String, String> previousTranslations(TranslatedInformation translatedInformation) {
+        Map<String, String> previous = new HashMap<>();
+        if (translatedInformation.getSourceContent() == null || translatedInformation.getContent() == null) {
+            return previous;
+        }
+        try {
+            List<ObjectNode> sourceNodes = new ArrayList<>();
+            collectTextNodes(mapper.readTree(translatedInformation.getSourceContent()), sourceNodes);
+            List<ObjectNode> translatedNodes = new ArrayList<>();
+            collectTextNodes(mapper.readTree(translatedInformation.getContent()), translatedNodes);
 
-            String url = API_URL + "?key=" + apiKey;
+            if (sourceNodes.size() != translatedNodes.size()) {
+                return new HashMap<>(); // 구조가 어긋나면 전체 재번역
+            }
+            for (int i = 0; i < sourceNodes.size(); i++) {
+                previous.putIfAbsent(sourceNodes.get(i).get("text").asText(),
+                        translatedNodes.get(i).get("text").asText());
+            }
+        } catch (JsonProcessingException e) {
+            return new HashMap<>();
+        }
+        return previous;
+    }
 
-            Map<String, Object> body = new HashMap<>();
-            body.put("q", text);
-            body.put("source", sourceLang);
-            body.put("target", targetLang);
-            body.put("format", "text");
+    /**
+     * 여러 문장을 multi-q 요청으로 묶어서 번역. 요청당 세그먼트 수/바이트 제한을 넘지 않도록 나눠서 호출하고
+     * 입력과 같은 순서로 결과를 돌려준다. 하나라도 실패하면 null
+     */
+    public List<String> translateBatch(List<String> texts, String sourceLang, String targetLang) {
+        // 번역 메모리에 있는 문장은 API 호출(속도 제한) 없이 바로 사용
+        Map<Integer, String> remembered = translationMemoryService.lookup(texts, sourceLang, targetLang);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(body, headers);
+        List<String> missing = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            if (!remembered.containsKey(i)) missing.add(texts.get(i));
+        }
 
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
+        List<String> fetched = new ArrayList<>(missing.size());
+        List<String> chunk = new ArrayList<>();
+        int chunkBytes = 0;
+        for (String text : missing) {
+            int bytes = text.getBytes(StandardCharsets.UTF_8).length;
+            if (!chunk.isEmpty() && (chunk.size() >= maxBatchSegments || chunkBytes + bytes > maxBatchBytes)) {
+                List<String> translated = translateChunk(chunk, sourceLang, targetLang);
+                if (translated == null) return null;
+                translationMemoryService.store(chunk, translated, sourceLang, targetLang);
+                fetched.addAll(translated);
+                chunk = new ArrayList<>();
+                chunkBytes = 0;
+            }
+            chunk.add(text);
+            chunkBytes += bytes;
+        }
+        if (!chunk.isEmpty()) {
+            List<String> translated = translateChunk(chunk, sourceLang, targetLang);
+            if (translated == null) return null;
+            translationMemoryService.store(chunk, translated, sourceLang, targetLang);
+            fetched.addAll(translated);
+        }
 
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode root = mapper.readTree(response.getBody());
-            return root.path("data").path("translations").get(0).path("translatedText").asText();
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+        List<String> result = new ArrayList<>(texts.size());
+        Iterator<String> fetchedIterator = fetched.iterator();
+        for (int i = 0; i < texts.size(); i++) {
+            result.add(remembered.containsKey(i) ? remembered.get(i) : fetchedIterator.next());
         }
+        return result;
     }
 
-    public String translateRichContent(String jsonContent, String fromLang, String toLang) throws JsonProcessingException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode root = mapper.readTree(jsonContent);
+    private List<String> translateChunk(List<String> texts, String sourceLang, String targetLang) {
+        int characters = 0;
+        for (String text : texts) {
+            characters += text.length();
+        }
 
-        translateTextNodesRecursively(root, fromLang, toLang);
+        rateLimiter.acquire(characters); // 속도 제한 (요청 수 + 글자 수)
 
-        return mapper.writeValueAsString(root);
+        long start = System.nanoTime();
+        try {
+            List<String> result = translationProvider.translate(texts, sourceLang, targetLang).join();
+            rateLimiter.onSuccess();
+            translationMetrics.recordApiCall(translationProvider.getName(), targetLang, texts.size(), characters,
+                    System.nanoTime() - start, true);
+            return result;
+        } catch (CompletionException e) {
+            translationMetrics.recordApiCall(translationProvider.getName(), targetLang, texts.size(), characters,
+                    System.nanoTime() - start, false);
+            if (e.getCause() instanceof TranslationProviderException providerException
+                    && providerException.isThrottled()) {
+                rateLimiter.onThrottle(providerException.getRetryAfter());
+            }
+            log.warn("번역 API 호출 실패 {} -> {} ({}개 문장)", sourceLang, targetLang, texts.size(), e.getCause());
+            return null;
+        }
     }
 
-    private void translateTextNodesRecursively(JsonNode node, String fromLang, String toLang) { // { {} } 이런 구조도 번역하기 위함
+    private void collectTextNodes(JsonNode node, List<ObjectNode> textNodes) { // { {} } 이런 구조도 번역하기 위함
         if (node.isObject()) {
             ObjectNode obj = (ObjectNode) node;
 
-            // "text" 필드가 있을 경우 번역
+            // "text" 필드가 있을 경우 번역 대상으로 수집
             if (obj.has("text") && obj.get("text").isTextual()) {
-                String original = obj.get("text").asText();
-                String translated = translate(original, fromLang, toLang);
-                if (translated != null) {
-                    obj.put("text", translated);
-                }
+                textNodes.add(obj);
             }
 
             // 모든 필드에 대해 재귀 호출 -
             Iterator<Map.Entry<String, JsonNode>> fields = obj.fields();
             while (fields.hasNext()) {
                 Map.Entry<String, JsonNode> entry = fields.next();
-                translateTextNodesRecursively(entry.getValue(), fromLang, toLang);
+                collectTextNodes(entry.getValue(), textNodes);
             }
 
         } else if (node.isArray()) {
             for (JsonNode child : node) {
-                translateTextNodesRecursively(child, fromLang, toLang);
+                collectTextNodes(child, textNodes);
             }
         }
     }
@@ -0,0 +1,135 @@
+package com.information.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.information.dto.KafkaUserDto;
+import com.information.entity.User;
+import com.information.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 요청 인증용 사용자 캐시. 없으면 DB에서 읽어 넣고, 사용자 서비스 이벤트로 바로 갱신/삭제한다.
+ * DB 반영용 리스너(UserService)는 인스턴스들이 한 그룹으로 나눠 받지만, 캐시는 인스턴스마다 있으므로
+ * 여기 리스너는 인스턴스별 그룹(세 리스너가 같은 그룹 하나, 호스트 이름으로 고정)으로 모든 이벤트를 받는다.
+ * 놓친 이벤트는 ttl 안에 다시 읽힌다
+ */
+@Slf4j
+@Service
+public class UserCacheService {
+    private static final String GROUP = "${user.cache.group-id}";
+    private static final int VERSION_SLOTS = 1024;
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, User> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_SLOTS); // 사용자 id 로 나눈 슬롯별 변경 횟수
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public UserCacheService(UserRepository userRepository, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${user.cache.size:100000}") long size,
+                            @Value("${user.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(size)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .build();
+
+        this.hits = Counter.builder("user.cache.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("user.cache.lookups").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("user.cache.size", cache, Cache::size).register(meterRegistry);
+    }
+
+    // 캐시된 객체를 호출하는 쪽에서 바꾸지 않도록 복사본을 돌려준다
+    public Optional<User> find(Long userId) {
+        User cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(copy(cached));
+        }
+        misses.increment();
+
+        int slot = slot(userId);
+        long version = versions.get(slot);
+        Optional<User> user = userRepository.findById(userId);
+        // 읽는 사이 이벤트로 바뀌었으면 옛 값을 ttl 동안 캐시하지 않도록 (BookmarkCacheService 와 같은 방식)
+        user.ifPresent(found -> cache.asMap().compute(userId, (key, existing) ->
+                existing != null || versions.get(slot) != version ? existing : copy(found)));
+        return user;
+    }
+
+    @KafkaListener(topics = {"createUser", "updateUser"}, groupId = GROUP,
+            properties = "auto.offset.reset=latest")
+    public void onUserChanged(String message) {
+        KafkaUserDto kafkaUserDto = read(message);
+        if (kafkaUserDto == null) return;
+        versions.incrementAndGet(slot(kafkaUserDto.getUserId()));
+        cache.put(kafkaUserDto.getUserId(), User.builder()
+                .userId(kafkaUserDto.getUserId())
+                .name(kafkaUserDto.getName())
+                .nation(kafkaUserDto.getNation())
+                .language(kafkaUserDto.getLanguage())
+                .role(kafkaUserDto.getRole())
+                .address(kafkaUserDto.getAddress())
+                .build());
+    }
+
+    @KafkaListener(topics = "updateLanguage", groupId = GROUP,
+            properties = "auto.offset.reset=latest")
+    public void onLanguageChanged(String message) {
+        KafkaUserDto kafkaUserDto = read(message);
+        if (kafkaUserDto == null) return;
+        versions.incrementAndGet(slot(kafkaUserDto.getUserId()));
+        cache.asMap().computeIfPresent(kafkaUserDto.getUserId(), (userId, user) -> {
+            User updated = copy(user);
+            updated.setLanguage(kafkaUserDto.getLanguage());
+            return updated;
+        });
+    }
+
+    @KafkaListener(topics = "deleteUser", groupId = GROUP,
+            properties = "auto.offset.reset=latest")
+    public void onUserDeleted(String message) {
+        KafkaUserDto kafkaUserDto = read(message);
+        if (kafkaUserDto == null) return;
+        versions.incrementAndGet(slot(kafkaUserDto.getUserId()));
+        cache.invalidate(kafkaUserDto.getUserId());
+    }
+
+    private static int slot(Long userId) {
+        return Math.floorMod(userId.hashCode(), VERSION_SLOTS);
+    }
+
+    private KafkaUserDto read(String message) {
+        try {
+            return objectMapper.readValue(message, KafkaUserDto.class);
+        } catch (Exception e) {
+            log.warn("사용자 이벤트 파싱 실패 {}", message, e);
+            return null;
+        }
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .userId(user.getUserId())
+                .name(user.getName())
+                .nation(user.getNation())
+                .language(user.getLanguage())
+                .role(user.getRole())
+                .address(user.getAddress())
+                .build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.information.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.information.repository.InformationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 조회수 버퍼. 조회할 때는 메모리 카운터만 올리고, 일정 간격으로 모인 증가분을
+ * UPDATE ... SET views = views + ? 배치로 반영한다.
+ * 게시글 id 를 스트라이프로 나눠서 한 스트라이프를 반영하는 동안에만 그 스트라이프의 조회가 잠깐 기다리고,
+ * 덕분에 조회 시 (DB 값 + 미반영 증가분) 이 두 번 세어지거나 줄어드는 일이 없다
+ */
+@Slf4j
+@Service
+public class ViewCountService {
+    private static final int STRIPES = 64;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InformationRepository informationRepository;
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+    private final Cache<Long, Long> persisted; // DB에 반영된 조회수. 다른 인스턴스 반영분은 ttl 후 다시 읽음
+    private final ReentrantReadWriteLock[] locks = new ReentrantReadWriteLock[STRIPES];
+
+    @Value("${information.views.flush-interval-ms:5000}")
+    private long flushIntervalMs;
+
+    private ScheduledExecutorService flusher;
+
+    public ViewCountService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                            InformationRepository informationRepository, MeterRegistry meterRegistry,
+                            @Value("${information.views.persisted-cache-size:100000}") long persistedCacheSize,
+                            @Value("${information.views.persisted-ttl-seconds:30}") long persistedTtlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.informationRepository = informationRepository;
+        this.persisted = CacheBuilder.newBuilder()
+                .maximumSize(persistedCacheSize)
+                .expireAfterWrite(persistedTtlSeconds, TimeUnit.SECONDS)
+                .build();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        Gauge.builder("information.views.pending", pending, Map::size)
+                .description("조회수 증가분이 아직 반영되지 않은 게시글 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushQuietly(); // 종료 전에 남은 증가분 반영
+    }
+
+    /**
+     * 조회 1회 기록 후 현재 조회수 (DB 반영분 + 미반영 증가분) 반환.
+     * DB 반영분은 캐시해두고 우리가 반영한 만큼은 직접 더해서, 인기 글도 조회할 때마다 DB를 읽지 않는다
+     */
+    public long recordView(Long informationId) {
+        ReentrantReadWriteLock lock = lockFor(informationId);
+        lock.readLock().lock();
+        try {
+            long buffered = pending.merge(informationId, 1L, Long::sum);
+            return persistedViews(informationId) + buffered;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long persistedViews(Long informationId) {
+        try {
+            return persisted.get(informationId, () -> {
+                Long views = informationRepository.findViewsByInformationId(informationId);
+                return views == null ? 0L : views;
+            });
+        } catch (ExecutionException e) {
+            return 0;
+        }
+    }
+
+    // 목록 조회수 보정용. 아직 반영되지 않은 증가분
+    public long pendingViews(Long informationId) {
+        return pending.getOrDefault(informationId, 0L);
+    }
+
+    public void flush() {
+        Map<Integer, List<Long>> idsByStripe = new TreeMap<>();
+        for (Long informationId : pending.keySet()) {
+            idsByStripe.computeIfAbsent(stripeOf(informationId), key -> new ArrayList<>()).add(informationId);
+        }
+        idsByStripe.forEach(this::flushStripe);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("조회수 반영 실패, 다음 주기에 다시 시도", e);
+        }
+    }
+
+    private void flushStripe(int stripe, List<Long> ids) {
+        Collections.sort(ids); // 여러 인스턴스가 동시에 반영해도 같은 순서로 행을 잠그도록
+
+        ReentrantReadWriteLock lock = locks[stripe];
+        lock.writeLock().lock();
+        try {
+            List<Object[]> batch = new ArrayList<>();
+            for (Long id : ids) {
+                batch.add(new Object[]{pending.get(id), id});
+            }
+
+            // 일부만 반영된 채 실패하면 다음 주기에 두 번 더해지므로 한 트랜잭션으로
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    "update information set views = views + ? where information_id = ?", batch));
+
+            // 쓰기 잠금 중에는 새 증가분이 들어오지 않으므로 그대로 제거
+            for (Long id : ids) {
+                long delta = pending.remove(id);
+                persisted.asMap().computeIfPresent(id, (key, views) -> views + delta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private ReentrantReadWriteLock lockFor(Long informationId) {
+        return locks[stripeOf(informationId)];
+    }
+
+    private static int stripeOf(Long informationId) {
+        return (int) Math.floorMod(informationId, (long) STRIPES);
+    }
+}
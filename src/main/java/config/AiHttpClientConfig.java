@@ -0,0 +1,38 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import util.NamedThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AiHttpClientConfig {
+    @Value("${ai.http.connect-timeout-ms:500}")
+    private long connectTimeoutMs;
+
+    @Value("${ai.http.io-threads:2}")
+    private int ioThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService aiHttpExecutor() {
+        return Executors.newFixedThreadPool(ioThreads, new NamedThreadFactory("ai-http-"));
+    }
+
+    /**
+     * AI 서버 전용 HTTP 클라이언트. 요청마다 RestTemplate 을 만들지 않고 커넥션을 재사용한다
+     */
+    @Bean
+    public HttpClient aiHttpClient(@Qualifier("aiHttpExecutor") ExecutorService aiHttpExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(aiHttpExecutor)
+                .build();
+    }
+}
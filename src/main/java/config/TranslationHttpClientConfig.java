@@ -0,0 +1,40 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import util.NamedThreadFactory;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class TranslationHttpClientConfig {
+    @Value("${translation.http.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${translation.http.io-threads:4}")
+    private int ioThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService translationHttpExecutor() {
+        return Executors.newFixedThreadPool(ioThreads, new NamedThreadFactory("translation-http-"));
+    }
+
+    /**
+     * 번역 API 전용 HTTP 클라이언트. 커넥션을 재사용해서 호출마다 TCP/TLS 연결을 새로 맺지 않는다.
+     * 유휴 커넥션 유지 시간/개수(jdk.httpclient.keepalive.timeout, connectionPoolSize)는 JVM 전체 설정이라
+     * 여기서 바꾸지 않고 Dockerfile 의 JVM 옵션으로 지정한다
+     */
+    @Bean
+    public HttpClient translationHttpClient(@Qualifier("translationHttpExecutor") ExecutorService translationHttpExecutor) {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(translationHttpExecutor)
+                .build();
+    }
+}
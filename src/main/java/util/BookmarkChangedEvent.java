@@ -0,0 +1,4 @@
+package util;
+
+public record BookmarkChangedEvent(Long userId, Long informationId, boolean bookmarked) {
+}
@@ -0,0 +1,44 @@
+package util;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * 내용 버전 기반 ETag. 상세는 강한 ETag, 목록은 페이지에 담긴 글들의 버전으로 만든 약한 ETag 를 쓴다
+ */
+public final class ETags {
+    private ETags() {
+    }
+
+    // 같은 글/언어/버전/북마크 여부면 같은 본문 (조회수는 비교 대상에서 제외)
+    public static String article(long informationId, String language, long version, long state) {
+        return "\"" + informationId + "-" + language + "-" + version + "-" + state + "\"";
+    }
+
+    public static Hasher hasher() {
+        return Hashing.murmur3_128().newHasher();
+    }
+
+    public static String weak(Hasher hasher) {
+        return "W/\"" + hasher.hash() + "\"";
+    }
+
+    /**
+     * If-None-Match 비교 (약한 비교: W/ 는 무시). "*" 는 항상 일치
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+        String opaque = stripWeak(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || stripWeak(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,86 @@
+package util;
+
+import com.information.dto.InformationSummary;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 무한 스크롤용 커서. 마지막으로 받은 글의 (정렬 값, id) 를 담아서 다음 페이지는 OFFSET 없이 그 뒤부터 읽는다.
+ * 클라이언트에는 base64 문자열로만 내려준다
+ */
+public record InformationCursor(String sort, LocalDateTime createdAt, long views, long informationId) {
+    private static final String LATEST = "c";
+    private static final String VIEWS = "v";
+
+    // 첫 페이지는 모든 글보다 큰 값에서 시작
+    public static InformationCursor first(String sort) {
+        return new InformationCursor(normalize(sort), LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+                Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static InformationCursor after(String sort, InformationSummary last) {
+        return after(sort, last.getCreatedAt(), last.getViews(), last.getInformationId());
+    }
+
+    public static InformationCursor after(String sort, LocalDateTime createdAt, long views, long informationId) {
+        return new InformationCursor(normalize(sort), createdAt, views, informationId);
+    }
+
+    /**
+     * 빈 값이면 첫 페이지. 형식이 잘못됐거나 요청한 정렬과 다르면 IllegalArgumentException
+     */
+    public static InformationCursor decode(String sort, String cursor) {
+        String normalized = normalize(sort);
+        if (cursor == null || cursor.isBlank()) {
+            return first(normalized);
+        }
+
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = decoded.split("\\|", 3);
+        if (parts.length != 3 || !parts[0].equals(normalized)) {
+            throw new IllegalArgumentException("잘못된 커서");
+        }
+
+        long informationId = Long.parseLong(parts[2]);
+        if (VIEWS.equals(normalized)) {
+            return new InformationCursor(normalized, null, Long.parseLong(parts[1]), informationId);
+        }
+        try {
+            return new InformationCursor(normalized, LocalDateTime.parse(parts[1]), 0, informationId);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서", e);
+        }
+    }
+
+    public String encode() {
+        String key = isByViews() ? String.valueOf(views) : createdAt.toString();
+        String raw = sort + "|" + key + "|" + informationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 순서상 이 커서 뒤(다음 페이지)에 오는 행인지. 저장소의 커서 쿼리와 같이 (정렬 값, id) 내림차순이고
+     * 정렬 값이 같으면 id 가 작은 쪽이 뒤. createdAt 을 모르면(색인 결과) id 만 비교한다 (id 는 작성 순서대로 늘어남)
+     */
+    public boolean precedes(LocalDateTime rowCreatedAt, long rowViews, long rowInformationId) {
+        if (isByViews()) {
+            return rowViews < views || (rowViews == views && rowInformationId < informationId);
+        }
+        if (rowCreatedAt == null) {
+            return rowInformationId < informationId;
+        }
+        int compared = rowCreatedAt.compareTo(createdAt);
+        return compared < 0 || (compared == 0 && rowInformationId < informationId);
+    }
+
+    public boolean isByViews() {
+        return VIEWS.equals(sort);
+    }
+
+    private static String normalize(String sort) {
+        return "views".equals(sort) || VIEWS.equals(sort) ? VIEWS : LATEST;
+    }
+}
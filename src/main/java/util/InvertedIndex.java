@@ -0,0 +1,345 @@
+package util;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 언어의 역색인. 문서 번호는 추가할 때마다 1씩 늘어나는 내부 번호라서 포스팅이 항상 정렬된 채로 뒤에만 붙고,
+ * (문서 번호 차이, 빈도)를 varint 로 바이트 배열에 담아 메모리를 적게 쓴다.
+ * 수정은 기존 문서를 지우고 새 번호로 다시 넣는 방식이고, 지워진 문서가 많아지면 한 번에 압축한다.
+ * 조회수는 상세 조회마다 바뀌므로 락 밖의 맵에 글 id 로 두고 검색 결과를 만들 때 읽는다
+ */
+public class InvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 단어는 본문보다 높게
+    private static final int COMPACT_MIN_DEAD = 1000;
+
+    public enum Order {RELEVANCE, LATEST, VIEWS}
+
+    public record Hit(long informationId, long views, float score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private long[] informationIds = new long[1024];
+    private int[] lengths = new int[1024];
+    private short[] categories = new short[1024];
+    private BitSet live = new BitSet();
+    private final Map<Long, Integer> docByInformationId = new HashMap<>();
+    private final Map<Long, Long> viewsByInformationId = new ConcurrentHashMap<>();
+    private final List<String> categoryNames = new ArrayList<>();
+
+    private int docCount;
+    private int liveCount;
+    private long totalLength;
+
+    /**
+     * 문서 추가. 이미 있는 글이면 교체. ifAbsent 면 이미 있는 글은 건너뛴다 (재구축 중 더 최신 이벤트가 먼저 들어온 경우)
+     */
+    public void put(long informationId, String category, long viewCount, String language,
+                    String title, String body, boolean ifAbsent) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(title, language)) {
+            frequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(body, language)) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (docByInformationId.containsKey(informationId)) {
+                if (ifAbsent) return;
+                removeLocked(informationId);
+            }
+
+            int doc = docCount++;
+            ensureCapacity(doc + 1);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new Postings()).add(doc, entry.getValue());
+                length += entry.getValue();
+            }
+            informationIds[doc] = informationId;
+            viewsByInformationId.merge(informationId, viewCount, Math::max);
+            lengths[doc] = length;
+            categories[doc] = categoryCode(category);
+            live.set(doc);
+            docByInformationId.put(informationId, doc);
+            liveCount++;
+            totalLength += length;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long informationId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(informationId);
+            viewsByInformationId.remove(informationId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 락을 잡지 않는다. 색인에 있는 글만, 더 큰 값으로 (늦게 도착한 옛 값은 무시)
+    public void updateViews(long informationId, long viewCount) {
+        viewsByInformationId.computeIfPresent(informationId, (key, current) -> Math.max(current, viewCount));
+    }
+
+    // 지금 색인에 있는 글 id 복사본
+    public Set<Long> indexedIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(docByInformationId.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 질의의 모든 단어를 포함하는 문서를 찾는다 (AND). 가장 짧은 포스팅부터 교집합을 구해서 후보를 빨리 줄이고,
+     * 점수는 BM25. category 가 null 이면 전체
+     */
+    public List<Hit> search(String query, String language, String category, Order order) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.tokenize(query, language));
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> termPostings = new ArrayList<>();
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p == null) {
+                    return new ArrayList<>();
+                }
+                termPostings.add(p);
+            }
+            termPostings.sort(Comparator.comparingInt(p -> p.size));
+
+            short categoryCode = -1;
+            if (category != null) {
+                int index = categoryNames.indexOf(category);
+                if (index < 0) {
+                    return new ArrayList<>();
+                }
+                categoryCode = (short) index;
+            }
+
+            float averageLength = liveCount == 0 ? 1 : (float) totalLength / liveCount;
+
+            // 가장 짧은 포스팅으로 후보를 만들고 나머지 포스팅과 차례로 교집합
+            Postings first = termPostings.get(0);
+            int[] docs = new int[first.size];
+            float[] scores = new float[first.size];
+            int count = 0;
+            PostingsReader reader = first.reader();
+            while (reader.next()) {
+                int doc = reader.doc;
+                if (!live.get(doc) || (categoryCode >= 0 && categories[doc] != categoryCode)) continue;
+                docs[count] = doc;
+                scores[count] = bm25(reader.frequency, first.size, lengths[doc], averageLength);
+                count++;
+            }
+
+            for (int t = 1; t < termPostings.size() && count > 0; t++) {
+                Postings next = termPostings.get(t);
+                PostingsReader nextReader = next.reader();
+                int kept = 0;
+                boolean hasMore = nextReader.next();
+                for (int i = 0; i < count && hasMore; i++) {
+                    while (hasMore && nextReader.doc < docs[i]) {
+                        hasMore = nextReader.next();
+                    }
+                    if (hasMore && nextReader.doc == docs[i]) {
+                        docs[kept] = docs[i];
+                        scores[kept] = scores[i] + bm25(nextReader.frequency, next.size, lengths[docs[i]], averageLength);
+                        kept++;
+                    }
+                }
+                count = kept;
+            }
+
+            List<Hit> hits = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long informationId = informationIds[docs[i]];
+                hits.add(new Hit(informationId, viewsByInformationId.getOrDefault(informationId, 0L), scores[i]));
+            }
+            hits.sort(comparator(order));
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Comparator<Hit> comparator(Order order) {
+        Comparator<Hit> latest = Comparator.comparingLong(Hit::informationId).reversed();
+        return switch (order) {
+            case RELEVANCE -> Comparator.comparingDouble(Hit::score).reversed().thenComparing(latest);
+            case VIEWS -> Comparator.comparingLong(Hit::views).reversed().thenComparing(latest);
+            case LATEST -> latest;
+        };
+    }
+
+    private float bm25(int frequency, int documentFrequency, int length, float averageLength) {
+        double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        return (float) (idf * frequency * (K1 + 1)
+                / (frequency + K1 * (1 - B + B * length / averageLength)));
+    }
+
+    private void removeLocked(long informationId) {
+        Integer doc = docByInformationId.remove(informationId);
+        if (doc == null) return;
+        live.clear(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+    }
+
+    private void compactIfNeeded() {
+        int dead = docCount - liveCount;
+        if (dead > COMPACT_MIN_DEAD && dead > liveCount / 4) {
+            compact();
+        }
+    }
+
+    // 지워진 문서를 빼고 번호를 다시 매긴다
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            remap[doc] = live.get(doc) ? next++ : -1;
+        }
+
+        Map<String, Postings> compacted = new HashMap<>();
+        for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+            Postings rewritten = new Postings();
+            PostingsReader reader = entry.getValue().reader();
+            while (reader.next()) {
+                if (remap[reader.doc] >= 0) {
+                    rewritten.add(remap[reader.doc], reader.frequency);
+                }
+            }
+            if (rewritten.size > 0) {
+                compacted.put(entry.getKey(), rewritten);
+            }
+        }
+
+        long[] newInformationIds = new long[Math.max(1024, next)];
+        int[] newLengths = new int[newInformationIds.length];
+        short[] newCategories = new short[newInformationIds.length];
+        BitSet newLive = new BitSet();
+        docByInformationId.clear();
+        for (int doc = 0; doc < docCount; doc++) {
+            int target = remap[doc];
+            if (target < 0) continue;
+            newInformationIds[target] = informationIds[doc];
+            newLengths[target] = lengths[doc];
+            newCategories[target] = categories[doc];
+            newLive.set(target);
+            docByInformationId.put(informationIds[doc], target);
+        }
+
+        postings = compacted;
+        informationIds = newInformationIds;
+        lengths = newLengths;
+        categories = newCategories;
+        live = newLive;
+        docCount = next;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= informationIds.length) return;
+        int newLength = Math.max(capacity, informationIds.length * 2);
+        informationIds = Arrays.copyOf(informationIds, newLength);
+        lengths = Arrays.copyOf(lengths, newLength);
+        categories = Arrays.copyOf(categories, newLength);
+    }
+
+    private short categoryCode(String category) {
+        int index = categoryNames.indexOf(category);
+        if (index < 0) {
+            categoryNames.add(category);
+            index = categoryNames.size() - 1;
+        }
+        return (short) index;
+    }
+
+    // (이전 문서와의 번호 차이, 빈도) varint 목록
+    private static class Postings {
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int size;
+        private int lastDoc;
+
+        void add(int doc, int frequency) {
+            writeVarint(doc - lastDoc);
+            writeVarint(frequency);
+            lastDoc = doc;
+            size++;
+        }
+
+        PostingsReader reader() {
+            return new PostingsReader(bytes, length);
+        }
+
+        private void writeVarint(int value) {
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+    }
+
+    private static class PostingsReader {
+        private final byte[] bytes;
+        private final int length;
+        private int position;
+        int doc;
+        int frequency;
+
+        PostingsReader(byte[] bytes, int length) {
+            this.bytes = bytes;
+            this.length = length;
+        }
+
+        boolean next() {
+            if (position >= length) return false;
+            doc += readVarint();
+            frequency = readVarint();
+            return true;
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
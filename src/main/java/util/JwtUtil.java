@@ -1,5 +1,9 @@
 package util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,12 +11,22 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser parser; // 스레드 안전하므로 하나만 만들어 재사용
+
+    private record VerifiedClaims(Claims claims, long expiresAt) {
+    }
+
+    private final Cache<String, VerifiedClaims> verifiedClaims;
 
     @Value("${jwt.access-token-expiration}")
     private long accessExpiration;
@@ -20,24 +34,58 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshExpiration;
 
-    public JwtUtil(@Value("${jwt.token.secret}") String secret) {
+    public JwtUtil(@Value("${jwt.token.secret}") String secret,
+                   @Value("${jwt.claims-cache.size:100000}") long claimsCacheSize,
+                   @Value("${jwt.claims-cache.max-ttl-seconds:3600}") long claimsCacheMaxTtlSeconds) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8)
                 , Jwts.SIG.HS256.key().build().getAlgorithm());
+        parser = Jwts.parser().verifyWith(secretKey).build();
+        verifiedClaims = CacheBuilder.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfterWrite(claimsCacheMaxTtlSeconds, TimeUnit.SECONDS) // 만료 시각은 조회 시 따로 확인
+                .build();
+    }
+
+    /**
+     * 서명 검증 후 전체 클레임. 같은 토큰은 만료 시각까지 캐시해서 다시 검증하지 않는다.
+     * 잘못되거나 만료된 토큰은 JwtException
+     */
+    public Claims getClaims(String token) {
+        String digest = digest(token);
+        VerifiedClaims cached = verifiedClaims.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.expiresAt() > System.currentTimeMillis()) {
+                return cached.claims();
+            }
+            verifiedClaims.invalidate(digest);
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        long expiresAt = claims.getExpiration() == null ? Long.MAX_VALUE : claims.getExpiration().getTime();
+        verifiedClaims.put(digest, new VerifiedClaims(claims, expiresAt));
+        return claims;
     }
 
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().get("userId", Long.class);
+        return getClaims(token).get("userId", Long.class);
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().get("role", String.class);
+        return getClaims(token).get("role", String.class);
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().getExpiration().before(new Date());
+        return getClaims(token).getExpiration().before(new Date());
+    }
+
+    // 토큰 원문 대신 해시를 키로 (메모리 절약, 힙 덤프에 토큰이 남지 않도록)
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String createToken(long userId, String role, String category) {
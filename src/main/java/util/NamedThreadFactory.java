@@ -0,0 +1,23 @@
+package util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * prefix + 일련번호로 이름 붙인 데몬 스레드. 스레드 덤프/로그에서 어느 풀인지 바로 보이도록
+ */
+public class NamedThreadFactory implements ThreadFactory {
+    private final String prefix;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public NamedThreadFactory(String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,334 @@
+package util;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 미리 직렬화해둔 JSON 응답 앞부분을 힙 밖(direct buffer)에 보관한다.
+ * 큰 direct buffer 하나를 고정 크기 페이지로 나눠 쓰고, 자리가 모자라면 가장 오래 안 쓴 항목부터 비운다(LRU).
+ * 읽기(응답 복사)는 서로 막지 않고, 페이지를 바꾸는 저장/무효화/비우기만 배타적으로 한다.
+ * 응답은 잠금 밖에서 고정 크기 조각으로 페이지에서 바로 쓰고, 쓰는 동안 비워진 항목의 페이지는 마지막으로 읽던 요청이 끝날 때 반납한다.
+ * 요청마다 달라지는 값(조회수 등)은 뒷부분(suffix)으로 붙여서 쓴다.
+ * gzip 은 앞부분을 SYNC_FLUSH 로 압축해두고, 요청 시 suffix 를 무압축 블록으로 이어 붙인 뒤 CRC 만 이어서 계산한다
+ */
+public class OffHeapResponseStore {
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, 8, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRANSFER_CHUNK = 8192;
+    private static final int[] CRC_TABLE = new int[256];
+
+    static {
+        for (int n = 0; n < 256; n++) {
+            int c = n;
+            for (int k = 0; k < 8; k++) {
+                c = (c & 1) != 0 ? 0xEDB88320 ^ (c >>> 1) : c >>> 1;
+            }
+            CRC_TABLE[n] = c;
+        }
+    }
+
+    private static class Entry {
+        int[] pages;
+        int length;
+        int[] gzipPages;
+        int gzipLength;
+        int crc;
+        long storedAt;
+        volatile long lastAccess; // LRU 용. 읽기 잠금 아래에서 갱신하므로 volatile
+        final AtomicInteger readers = new AtomicInteger(); // 응답을 쓰고 있는 요청 수. 늘리는 건 읽기 잠금 아래에서만
+        volatile boolean removed;
+        boolean pagesReturned; // 쓰기 잠금 아래에서만
+    }
+
+    private final ByteBuffer slab;
+    private final int pageSize;
+    private final int[] freePages;
+    private int freeCount;
+    private final int maxEntryBytes;
+    private final boolean gzipEnabled;
+    private final long ttlMillis;
+
+    // 응답 복사는 읽기 잠금으로 동시에 하고, 페이지를 할당/반납하는 저장·무효화·비우기만 쓰기 잠금
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(1024); // 키 해시별 무효화 횟수. 무효화 전에 읽은 내용이 뒤늦게 저장되지 않도록
+
+    // 페이지에서 응답으로 옮길 때 쓰는 스레드별 고정 크기 버퍼. 항목 크기와 상관없이 늘리지 않는다
+    private final ThreadLocal<byte[]> transferBuffer = ThreadLocal.withInitial(() -> new byte[TRANSFER_CHUNK]);
+
+    public OffHeapResponseStore(long capacityBytes, int pageSize, int maxEntryBytes, boolean gzipEnabled, long ttlMillis) {
+        int pages = (int) Math.min(Integer.MAX_VALUE / pageSize, capacityBytes / pageSize);
+        this.slab = ByteBuffer.allocateDirect(pages * pageSize);
+        this.pageSize = pageSize;
+        this.freePages = new int[pages];
+        for (int i = 0; i < pages; i++) {
+            freePages[i] = pages - 1 - i;
+        }
+        this.freeCount = pages;
+        this.maxEntryBytes = maxEntryBytes;
+        this.gzipEnabled = gzipEnabled;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long generation(Object key) {
+        return generations.get(slot(key));
+    }
+
+    public void invalidate(Object key) {
+        lock.writeLock().lock();
+        try {
+            generations.incrementAndGet(slot(key));
+            release(entries.remove(key));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<Object> predicate) {
+        lock.writeLock().lock();
+        try {
+            Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Object, Entry> entry = iterator.next();
+                if (predicate.test(entry.getKey())) {
+                    generations.incrementAndGet(slot(entry.getKey()));
+                    release(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long usedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) (freePages.length - freeCount) * pageSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * JSON 앞부분 저장. generation 을 읽은 뒤 무효화가 있었거나 너무 크면 저장하지 않는다
+     */
+    public boolean put(Object key, byte[] prefix, long generation) {
+        if (prefix.length > maxEntryBytes) return false;
+        byte[] gzipped = gzipEnabled ? deflateSyncFlushed(prefix) : null;
+        int crc = 0;
+        if (gzipEnabled) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(prefix);
+            crc = (int) crc32.getValue();
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (generations.get(slot(key)) != generation) return false;
+            release(entries.remove(key));
+
+            int needed = pagesFor(prefix.length) + (gzipped == null ? 0 : pagesFor(gzipped.length));
+            if (needed > freePages.length) return false;
+            evictUntil(needed);
+            if (freeCount < needed) return false; // 비운 항목이 아직 응답 중이라 페이지가 덜 돌아온 경우
+
+            Entry entry = new Entry();
+            entry.pages = write(prefix);
+            entry.length = prefix.length;
+            if (gzipped != null) {
+                entry.gzipPages = write(gzipped);
+                entry.gzipLength = gzipped.length;
+                entry.crc = crc;
+            }
+            entry.storedAt = System.currentTimeMillis();
+            entry.lastAccess = System.nanoTime();
+            entries.put(key, entry);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 앞부분 + suffix 를 응답으로 쓴다. 없거나 만료됐으면 false.
+     * 느린 클라이언트가 저장/무효화를 막지 않도록 잠금은 항목을 고를 때만 잡고, 쓰는 동안에는 readers 로 페이지를 붙잡아 둔다
+     */
+    public boolean writeTo(Object key, byte[] suffix, boolean gzip, HttpServletResponse response) throws IOException {
+        Entry entry;
+        boolean compressed;
+
+        lock.readLock().lock();
+        try {
+            entry = entries.get(key);
+            // 만료된 항목은 호출한 쪽이 다시 put 할 때 교체된다
+            if (entry == null || System.currentTimeMillis() - entry.storedAt > ttlMillis) return false;
+            entry.lastAccess = System.nanoTime();
+            entry.readers.incrementAndGet();
+            compressed = gzip && entry.gzipPages != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        try {
+            int[] pages = compressed ? entry.gzipPages : entry.pages;
+            int length = compressed ? entry.gzipLength : entry.length;
+
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.setHeader("Vary", "Accept-Encoding");
+            ServletOutputStream out = response.getOutputStream();
+
+            if (!compressed) {
+                response.setContentLengthLong((long) length + suffix.length);
+                transfer(pages, length, out);
+                out.write(suffix);
+                return true;
+            }
+
+            // 앞부분은 SYNC_FLUSH 로 끝나서 바이트 경계에 맞으므로 마지막 무압축 블록(BFINAL=1, LEN, NLEN)을 바로 이어 붙인다
+            response.setHeader("Content-Encoding", "gzip");
+            response.setContentLengthLong(GZIP_HEADER.length + length + 5L + suffix.length + 8);
+            out.write(GZIP_HEADER);
+            transfer(pages, length, out);
+            out.write(1);
+            writeShortLittleEndian(out, suffix.length);
+            writeShortLittleEndian(out, ~suffix.length);
+            out.write(suffix);
+            writeIntLittleEndian(out, continueCrc(entry.crc, suffix));
+            writeIntLittleEndian(out, entry.length + suffix.length);
+            return true;
+        } finally {
+            if (entry.readers.decrementAndGet() == 0 && entry.removed) {
+                lock.writeLock().lock();
+                try {
+                    returnPages(entry);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    // 가장 오래 안 쓴 항목부터 비운다. 정렬 비용을 나누도록 한 번 비울 때 전체의 1/16 까지 여유를 만든다
+    private void evictUntil(int pages) {
+        if (freeCount >= pages) return;
+        int target = Math.min(freePages.length, Math.max(pages, freePages.length / 16));
+        List<Map.Entry<Object, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess));
+        for (Map.Entry<Object, Entry> candidate : candidates) {
+            if (freeCount >= target) break;
+            entries.remove(candidate.getKey());
+            release(candidate.getValue());
+        }
+    }
+
+    private int[] write(byte[] bytes) {
+        int[] pages = new int[pagesFor(bytes.length)];
+        for (int i = 0; i < pages.length; i++) {
+            int page = freePages[--freeCount];
+            pages[i] = page;
+            int offset = i * pageSize;
+            slab.put(page * pageSize, bytes, offset, Math.min(pageSize, bytes.length - offset));
+        }
+        return pages;
+    }
+
+    // 붙잡아 둔 페이지라 잠금 없이 읽어도 다른 항목이 덮어쓰지 않는다
+    private void transfer(int[] pages, int length, ServletOutputStream out) throws IOException {
+        byte[] buffer = transferBuffer.get();
+        for (int i = 0; i < pages.length; i++) {
+            int pageEnd = Math.min(pageSize, length - i * pageSize);
+            for (int offset = 0; offset < pageEnd; offset += buffer.length) {
+                int chunk = Math.min(buffer.length, pageEnd - offset);
+                slab.get(pages[i] * pageSize + offset, buffer, 0, chunk);
+                out.write(buffer, 0, chunk);
+            }
+        }
+    }
+
+    // 쓰기 잠금 아래에서. 응답을 쓰고 있는 요청이 있으면 페이지 반납은 마지막 요청이 끝날 때
+    private void release(Entry entry) {
+        if (entry == null) return;
+        entry.removed = true;
+        if (entry.readers.get() == 0) {
+            returnPages(entry);
+        }
+    }
+
+    private void returnPages(Entry entry) {
+        if (entry.pagesReturned) return;
+        entry.pagesReturned = true;
+        for (int page : entry.pages) {
+            freePages[freeCount++] = page;
+        }
+        if (entry.gzipPages != null) {
+            for (int page : entry.gzipPages) {
+                freePages[freeCount++] = page;
+            }
+        }
+    }
+
+    private int pagesFor(int length) {
+        return Math.max(1, (length + pageSize - 1) / pageSize);
+    }
+
+    private int slot(Object key) {
+        return Math.floorMod(key.hashCode(), generations.length());
+    }
+
+    private static byte[] deflateSyncFlushed(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 3));
+            byte[] chunk = new byte[8192];
+            int written;
+            do {
+                written = deflater.deflate(chunk, 0, chunk.length, Deflater.SYNC_FLUSH);
+                out.write(chunk, 0, written);
+            } while (written == chunk.length || !deflater.needsInput());
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // CRC32 를 앞부분 값에서 이어서 계산
+    private static int continueCrc(int crc, byte[] bytes) {
+        int c = ~crc;
+        for (byte b : bytes) {
+            c = CRC_TABLE[(c ^ b) & 0xff] ^ (c >>> 8);
+        }
+        return ~c;
+    }
+
+    private static void writeShortLittleEndian(ServletOutputStream out, int value) throws IOException {
+        out.write(value & 0xff);
+        out.write((value >>> 8) & 0xff);
+    }
+
+    private static void writeIntLittleEndian(ServletOutputStream out, int value) throws IOException {
+        writeShortLittleEndian(out, value);
+        writeShortLittleEndian(out, value >>> 16);
+    }
+}
@@ -0,0 +1,69 @@
+package util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 리치 텍스트 JSON 에서 "text" 값만 뽑아 평문으로 만든다 (목록 미리보기, 검색용)
+ */
+public final class RichContentText {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private RichContentText() {
+    }
+
+    public static String plainText(String jsonContent) {
+        if (jsonContent == null || jsonContent.isBlank()) {
+            return "";
+        }
+        try {
+            StringBuilder builder = new StringBuilder();
+            collect(MAPPER.readTree(jsonContent), builder);
+            return builder.toString().trim();
+        } catch (Exception e) {
+            return jsonContent.trim(); // JSON 이 아니면 그대로 평문으로 취급
+        }
+    }
+
+    public static String excerpt(String plainText, int maxLength) {
+        String normalized = plainText.replaceAll("\\s+", " ").trim();
+        if (normalized.length() <= maxLength) {
+            return normalized;
+        }
+        int end = maxLength;
+        if (Character.isHighSurrogate(normalized.charAt(end - 1))) {
+            end--; // 이모지 등이 반으로 잘리지 않도록
+        }
+        return normalized.substring(0, end) + "…";
+    }
+
+    // 띄어쓰기가 없는 언어(일본어, 중국어)는 글자 수로 센다
+    public static int wordCount(String plainText, String language) {
+        if (plainText.isBlank()) {
+            return 0;
+        }
+        if ("JA".equals(language) || "ZH".equals(language)) {
+            return (int) plainText.codePoints().filter(c -> !Character.isWhitespace(c)).count();
+        }
+        return plainText.trim().split("\\s+").length;
+    }
+
+    private static void collect(JsonNode node, StringBuilder builder) {
+        if (node.isObject()) {
+            if (node.has("text") && node.get("text").isTextual()) {
+                builder.append(node.get("text").asText()).append(' ');
+            }
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                collect(fields.next().getValue(), builder);
+            }
+        } else if (node.isArray()) {
+            for (JsonNode child : node) {
+                collect(child, builder);
+            }
+        }
+    }
+}
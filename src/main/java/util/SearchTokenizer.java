@@ -0,0 +1,124 @@
+package util;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 검색 색인/질의 토큰화. 한국어, 일본어, 중국어는 띄어쓰기나 조사에 상관없이 찾을 수 있도록 2글자 n-gram,
+ * 나머지 언어는 단어 단위로 나누고 흔한 어미를 잘라낸다 (가벼운 스테밍)
+ */
+public final class SearchTokenizer {
+    private static final int MIN_STEM_LENGTH = 3;
+
+    // 긴 어미부터 검사
+    private static final Map<String, String[]> SUFFIXES = Map.of(
+            "EN", new String[]{"ational", "ations", "ation", "ness", "ments", "ment", "ings", "ing", "ies", "ied",
+                    "ers", "er", "ed", "ly", "es", "s"},
+            "DE", new String[]{"ungen", "ung", "heit", "keit", "lich", "isch", "ern", "em", "en", "er", "es", "e",
+                    "n", "s"},
+            "FR", new String[]{"issements", "issement", "ations", "ation", "ements", "ement", "euses", "euse",
+                    "eux", "ées", "ée", "és", "er", "ez", "es", "é", "e", "s"},
+            "ES", new String[]{"amientos", "amiento", "aciones", "ación", "acion", "amente", "mente", "idades",
+                    "idad", "ando", "iendo", "ados", "idos", "ado", "ido", "es", "as", "os", "a", "o", "s"},
+            "RU", new String[]{"иями", "ями", "ами", "ого", "его", "ому", "ему", "ыми", "ими", "ость", "ах", "ях",
+                    "ов", "ев", "ой", "ей", "ий", "ый", "ая", "яя", "ое", "ее", "ом", "ем", "ы", "и", "а", "я", "о",
+                    "е", "у", "ю", "ь"}
+    );
+
+    private SearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text, String language) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                flushWord(word, language, tokens);
+                cjk.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjk, tokens);
+                word.appendCodePoint(codePoint);
+            } else {
+                flushWord(word, language, tokens);
+                flushCjk(cjk, tokens);
+            }
+            i += Character.charCount(codePoint);
+        }
+        flushWord(word, language, tokens);
+        flushCjk(cjk, tokens);
+        return tokens;
+    }
+
+    /**
+     * 한 글자짜리 한중일 토막이 있는지 (예: "세"). 색인에는 2글자 조각만 있어서 이런 질의는 색인으로 찾을 수 없다
+     */
+    public static boolean hasSingleCjk(String text) {
+        if (text == null) return false;
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        int run = 0;
+        int i = 0;
+        while (i < normalized.length()) {
+            int codePoint = normalized.codePointAt(i);
+            if (isCjk(codePoint)) {
+                run++;
+            } else {
+                if (run == 1) return true;
+                run = 0;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return run == 1;
+    }
+
+    public static String stem(String word, String language) {
+        String[] suffixes = SUFFIXES.get(language);
+        if (suffixes == null) {
+            return word;
+        }
+        for (String suffix : suffixes) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+
+    private static void flushWord(StringBuilder word, String language, List<String> tokens) {
+        if (word.length() == 0) return;
+        tokens.add(stem(word.toString(), language));
+        word.setLength(0);
+    }
+
+    // 한 글자면 그대로, 아니면 겹치는 2글자 조각
+    private static void flushCjk(StringBuilder run, List<String> tokens) {
+        if (run.length() == 0) return;
+        int[] codePoints = run.codePoints().toArray();
+        if (codePoints.length == 1) {
+            tokens.add(new String(codePoints, 0, 1));
+        } else {
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        if (codePoint == 'ー') {
+            return true; // 장음 기호는 공통 문자로 분류되지만 가타카나 단어의 일부
+        }
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
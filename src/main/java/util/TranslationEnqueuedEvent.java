@@ -0,0 +1,4 @@
+package util;
+
+public record TranslationEnqueuedEvent(Long informationId) {
+}
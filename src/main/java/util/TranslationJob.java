@@ -1,14 +1,14 @@
 package util;
 
-import com.information.dto.InformationReqDto;
-import com.information.entity.Information;
+import com.information.entity.TranslationOutbox;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 @AllArgsConstructor
 public class TranslationJob {
-    private final Information information;
-    private final InformationReqDto informationReqDto;
     private final Long informationId;
+    private final List<TranslationOutbox> outboxes; // 가져올 당시의 아웃박스 행 (언어별)
 }
@@ -0,0 +1,87 @@
+package util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역 파이프라인 지표. 큐 대기, API 지연, 글자 수/예상 비용, 작성부터 전체 언어 저장까지 걸린 시간
+ */
+@Component
+public class TranslationMetrics {
+    private final MeterRegistry meterRegistry;
+    private final double costPerMillionCharacters;
+
+    public TranslationMetrics(MeterRegistry meterRegistry,
+                              @Value("${translation.cost-per-million-characters:20}") double costPerMillionCharacters) {
+        this.meterRegistry = meterRegistry;
+        this.costPerMillionCharacters = costPerMillionCharacters;
+    }
+
+    public void recordApiCall(String provider, String language, int segments, int characters,
+                              long nanos, boolean success) {
+        Timer.builder("translation.api.latency")
+                .description("번역 API 호출 지연")
+                .tag("provider", provider)
+                .tag("language", language)
+                .tag("result", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+
+        if (!success) return;
+
+        DistributionSummary.builder("translation.api.latency.per.segment")
+                .description("번역 API 호출 지연 / 세그먼트 수 (ms)")
+                .baseUnit("milliseconds")
+                .tag("provider", provider)
+                .tag("language", language)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos / 1_000_000.0 / Math.max(1, segments));
+
+        Counter.builder("translation.segments")
+                .tag("provider", provider)
+                .tag("language", language)
+                .register(meterRegistry)
+                .increment(segments);
+        Counter.builder("translation.characters")
+                .description("API로 번역한 글자 수")
+                .tag("provider", provider)
+                .tag("language", language)
+                .register(meterRegistry)
+                .increment(characters);
+        Counter.builder("translation.cost.estimate")
+                .description("예상 번역 비용 (글자 수 x 백만 자당 단가)")
+                .baseUnit("usd")
+                .tag("provider", provider)
+                .register(meterRegistry)
+                .increment(characters * costPerMillionCharacters / 1_000_000);
+    }
+
+    // 아웃박스에 마지막으로 요청이 들어온 시점(enqueuedAt)부터 워커가 잡을 때까지. 재시도 간격도 포함
+    public void recordQueueWait(String lane, Duration wait) {
+        Timer.builder("translation.queue.wait")
+                .description("번역 작업 큐 대기 시간")
+                .tag("lane", lane)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(wait.isNegative() ? Duration.ZERO : wait);
+    }
+
+    // 작성/수정부터 모든 언어 저장까지
+    public void recordEndToEnd(String lane, Duration elapsed) {
+        Timer.builder("translation.end.to.end")
+                .description("작성부터 전체 언어 번역 저장까지 걸린 시간")
+                .tag("lane", lane)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed.isNegative() ? Duration.ZERO : elapsed);
+    }
+}
@@ -1,36 +1,261 @@
 package util;
 
+import com.information.entity.TranslationOutbox;
+import com.information.service.TranslationOutboxService;
 import com.information.service.TranslationService;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 아웃박스에서 번역 작업을 가져와 워커 풀로 처리한다.
+ * 폴러가 남은 큐 용량만큼만 가져오고, 작업 워커가 언어별로 나눠 언어 풀에 제출한다
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class TranslationQueue {
     private final BlockingQueue<TranslationJob> queue = new LinkedBlockingQueue<>();
 
     private final TranslationService translationService;
+    private final TranslationOutboxService translationOutboxService;
+    private final MeterRegistry meterRegistry;
+    private final TranslationMetrics translationMetrics;
 
-    @PostConstruct
-    public void startWorker(){
-        new Thread(() -> {
-            while(true) {
+    @Value("${translation.worker.job-workers:2}") // 큐에서 작업을 꺼내는 스레드 수
+    private int jobWorkers;
+
+    @Value("${translation.worker.max-concurrency:8}") // 전체 언어 번역 동시 실행 수
+    private int maxConcurrency;
+
+    @Value("${translation.worker.per-language-concurrency:2}") // 언어별 동시 실행 수
+    private int perLanguageConcurrency;
+
+    @Value("${translation.worker.queue-capacity:16}") // 메모리에 들고 있을 작업 수
+    private int queueCapacity;
+
+    @Value("${translation.worker.shutdown-timeout-seconds:30}")
+    private long shutdownTimeoutSeconds;
+
+    @Value("${translation.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${translation.outbox.claim-batch-size:32}")
+    private int claimBatchSize;
+
+    @Value("${translation.outbox.depth-refresh-ms:10000}")
+    private long laneDepthRefreshMs;
+
+    private ExecutorService pollerExecutor;
+    private ExecutorService jobExecutor;
+    private ExecutorService languageExecutor;
+    private final Map<String, Semaphore> languagePermits = new ConcurrentHashMap<>();
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    private volatile boolean running = true;
+
+    private final Map<TranslationOutbox.Lane, AtomicLong> laneDepth = new EnumMap<>(TranslationOutbox.Lane.class);
+    private long laneDepthRefreshedAt = 0;
+
+    // 컨텍스트가 완전히 뜬 뒤 시작. 이전 실행에서 끝내지 못한 작업부터 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorker() {
+        Gauge.builder("translation.queue.in.memory", queue, BlockingQueue::size)
+                .description("가져와서 처리 대기 중인 작업 수")
+                .register(meterRegistry);
+        for (TranslationOutbox.Lane lane : TranslationOutbox.Lane.values()) {
+            AtomicLong depth = new AtomicLong();
+            laneDepth.put(lane, depth);
+            Gauge.builder("translation.queue.depth", depth, AtomicLong::get)
+                    .tag("lane", lane.name().toLowerCase())
+                    .description("레인별 아웃박스 대기 행 수")
+                    .register(meterRegistry);
+        }
+
+        int released = translationOutboxService.releaseStale();
+        if (released > 0) {
+            log.info("중단된 번역 작업 {}건 재개", released);
+        }
+
+        pollerExecutor = Executors.newSingleThreadExecutor(new NamedThreadFactory("translation-poller-"));
+        jobExecutor = Executors.newFixedThreadPool(jobWorkers, new NamedThreadFactory("translation-job-"));
+        languageExecutor = Executors.newFixedThreadPool(maxConcurrency, new NamedThreadFactory("translation-lang-"));
+
+        pollerExecutor.submit(this::poll);
+        for (int i = 0; i < jobWorkers; i++) {
+            jobExecutor.submit(this::drain);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (jobExecutor == null) return;
+
+        running = false; // 새 작업은 가져오지 않고 진행 중인 작업만 마무리
+        pollerExecutor.shutdownNow();
+        jobExecutor.shutdown();
+
+        // 아직 시작하지 않은 작업은 반납해서 다른 파드가 바로 가져가도록
+        List<TranslationJob> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        List<Long> outboxIds = new ArrayList<>();
+        for (TranslationJob job : pending) {
+            for (TranslationOutbox outbox : job.getOutboxes()) {
+                outboxIds.add(outbox.getOutboxId());
+            }
+        }
+        translationOutboxService.release(outboxIds);
+
+        if (!jobExecutor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            jobExecutor.shutdownNow();
+        }
+        languageExecutor.shutdown();
+        if (!languageExecutor.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+            languageExecutor.shutdownNow();
+        }
+    }
+
+    // 새 작업이 커밋되면 폴러를 바로 깨움
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(TranslationEnqueuedEvent event) {
+        wakeUp.release();
+    }
+
+    private void poll() {
+        while (running) {
+            try {
+                refreshLaneDepth();
+                int capacity = queueCapacity - queue.size();
+                if (capacity > 0) {
+                    translationOutboxService.releaseStale();
+                    List<TranslationOutbox> claimed = translationOutboxService
+                            .claim(Math.min(capacity * 4, claimBatchSize));
+                    for (TranslationJob job : groupByInformation(claimed)) {
+                        queue.offer(job);
+                    }
+                    if (!claimed.isEmpty()) continue; // 더 남아있을 수 있으니 바로 다시 가져옴
+                }
+                wakeUp.tryAcquire(pollIntervalMs, TimeUnit.MILLISECONDS);
+                wakeUp.drainPermits();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("번역 작업 가져오기 실패", e);
                 try {
-                    TranslationJob job = queue.take();
-                    translationService
-                            .translateInformation(job.getInformation(), job.getInformationReqDto(), job.getInformationId());
-                } catch (Exception e) {
-                    e.printStackTrace();
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
             }
-        }).start();
+        }
     }
 
-    public void enqueue(TranslationJob job) {
-        queue.offer(job);
+    // 레인별 대기 수는 DB 집계라 일정 간격으로만 갱신
+    private void refreshLaneDepth() {
+        long now = System.currentTimeMillis();
+        if (now - laneDepthRefreshedAt < laneDepthRefreshMs) return;
+        laneDepthRefreshedAt = now;
+        translationOutboxService.countPendingByLane()
+                .forEach((lane, count) -> laneDepth.get(lane).set(count));
+    }
+
+    private List<TranslationJob> groupByInformation(List<TranslationOutbox> claimed) {
+        Map<Long, List<TranslationOutbox>> grouped = new LinkedHashMap<>();
+        for (TranslationOutbox outbox : claimed) {
+            grouped.computeIfAbsent(outbox.getInformationId(), id -> new ArrayList<>()).add(outbox);
+        }
+        List<TranslationJob> jobs = new ArrayList<>();
+        grouped.forEach((informationId, outboxes) -> jobs.add(new TranslationJob(informationId, outboxes)));
+        return jobs;
+    }
+
+    private void drain() {
+        while (running) {
+            try {
+                TranslationJob job = queue.poll(1, TimeUnit.SECONDS);
+                if (job == null) continue;
+                process(job);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("번역 작업 처리 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 작업 하나를 언어별로 나눠서 언어 풀에 제출하고 전부 끝날 때까지 기다린다.
+     * 언어별 세마포어로 한 언어가 전체 풀을 차지하지 않도록 제한하고, 결과는 언어마다 아웃박스에 기록
+     */
+    private void process(TranslationJob job) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        Map<String, CompletableFuture<Boolean>> futures = new LinkedHashMap<>();
+
+        for (TranslationOutbox outbox : job.getOutboxes()) {
+            String language = outbox.getLanguage();
+            Long outboxId = outbox.getOutboxId();
+            long revision = outbox.getRevision();
+            // 마지막 요청 시점부터 (재시도 대기, 합쳐진 요청 포함). enqueuedAt 이 없는 옛 행만 nextAttemptAt 기준
+            LocalDateTime waitingSince = outbox.getEnqueuedAt() != null ? outbox.getEnqueuedAt() : outbox.getNextAttemptAt();
+            if (waitingSince != null) {
+                translationMetrics.recordQueueWait(outbox.getLane().name().toLowerCase(),
+                        Duration.between(waitingSince, LocalDateTime.now()));
+            }
+
+            Semaphore permit = languagePermits
+                    .computeIfAbsent(language, key -> new Semaphore(perLanguageConcurrency));
+            permit.acquire();
+            try {
+                futures.put(language, CompletableFuture.supplyAsync(() -> {
+                    try {
+                        boolean success = translationService.translateLanguage(job.getInformationId(), language);
+                        if (success) {
+                            translationOutboxService.markDone(outboxId, revision);
+                        } else {
+                            translationOutboxService.markFailed(outboxId, revision, "번역 결과 없음");
+                        }
+                        return success;
+                    } catch (Exception e) {
+                        log.error("번역 실패 informationId={} language={}", job.getInformationId(), language, e);
+                        translationOutboxService.markFailed(outboxId, revision, e.toString());
+                        return false;
+                    } finally {
+                        permit.release();
+                    }
+                }, languageExecutor));
+            } catch (RejectedExecutionException e) {
+                permit.release();
+                throw e;
+            }
+        }
+
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<Boolean>> entry : futures.entrySet()) {
+            try {
+                result.put(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                result.put(entry.getKey(), false);
+            }
+        }
+
+        long failed = result.values().stream().filter(success -> !success).count();
+        log.info("번역 작업 완료 informationId={} 소요={}ms 실패 언어={}",
+                job.getInformationId(), System.currentTimeMillis() - start, failed);
     }
 }
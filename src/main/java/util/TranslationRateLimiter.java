@@ -1,13 +1,122 @@
 package util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import com.google.common.util.concurrent.RateLimiter;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 번역 API 호출 속도 제한. 요청 수와 글자 수 예산을 따로 두고,
+ * 성공하면 조금씩 늘리고(가산) 429/5xx 응답을 받으면 크게 줄인다(승산). Retry-After 는 그대로 지킨다
+ */
+@Slf4j
 @Component
 public class TranslationRateLimiter {
-    private final RateLimiter rateLimiter = RateLimiter.create(10.0); // 초당 10건 허용
+    private final RateLimiter requestLimiter;
+    private final RateLimiter characterLimiter;
+
+    private final double maxRequestsPerSecond;
+    private final double maxCharactersPerSecond;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final double minScale;
+
+    private volatile double scale = 1.0; // 설정된 최대 속도 대비 현재 비율
+    private volatile long blockedUntil = 0; // Retry-After 가 끝나는 시각 (ms)
+
+    private final Counter throttleCounter;
+    private final Timer waitTimer;
+
+    public TranslationRateLimiter(MeterRegistry meterRegistry,
+                                  @Value("${translation.rate-limit.requests-per-second:10}") double maxRequestsPerSecond,
+                                  @Value("${translation.rate-limit.characters-per-second:100000}") double maxCharactersPerSecond,
+                                  @Value("${translation.rate-limit.increase-step:0.05}") double increaseStep,
+                                  @Value("${translation.rate-limit.decrease-factor:0.5}") double decreaseFactor,
+                                  @Value("${translation.rate-limit.min-scale:0.05}") double minScale) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        this.maxCharactersPerSecond = maxCharactersPerSecond;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.minScale = minScale;
+
+        this.requestLimiter = RateLimiter.create(maxRequestsPerSecond);
+        this.characterLimiter = RateLimiter.create(maxCharactersPerSecond);
+
+        Gauge.builder("translation.rate.limit.requests", requestLimiter, RateLimiter::getRate)
+                .description("현재 초당 허용 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("translation.rate.limit.characters", characterLimiter, RateLimiter::getRate)
+                .description("현재 초당 허용 글자 수")
+                .register(meterRegistry);
+        this.throttleCounter = Counter.builder("translation.rate.limit.throttled")
+                .description("429/5xx 로 속도를 줄인 횟수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("translation.rate.limit.wait")
+                .description("호출 전 대기 시간")
+                .register(meterRegistry);
+    }
 
     public void acquire() {
-        rateLimiter.acquire(); // 호출 전 블로킹 대기
+        acquire(0);
+    }
+
+    /**
+     * 호출 전 블로킹 대기. Retry-After 기간이 남아있으면 먼저 기다린다
+     */
+    public void acquire(int characters) {
+        long start = System.nanoTime();
+
+        long waitMs = blockedUntil - System.currentTimeMillis();
+        while (waitMs > 0) {
+            try {
+                Thread.sleep(waitMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            waitMs = blockedUntil - System.currentTimeMillis();
+        }
+
+        requestLimiter.acquire();
+        if (characters > 0) {
+            characterLimiter.acquire(characters);
+        }
+
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    // 성공 시 가산 증가
+    public synchronized void onSuccess() {
+        if (scale >= 1.0) return;
+        applyScale(Math.min(1.0, scale + increaseStep));
+    }
+
+    // 429/5xx 시 승산 감소, Retry-After 가 있으면 그 시간 동안 호출 중단
+    public synchronized void onThrottle(Duration retryAfter) {
+        throttleCounter.increment();
+        applyScale(Math.max(minScale, scale * decreaseFactor));
+
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + retryAfter.toMillis());
+        }
+        log.warn("번역 API 속도 제한 감지, 초당 {}건으로 감소 (Retry-After={})",
+                String.format("%.2f", requestLimiter.getRate()), retryAfter);
+    }
+
+    public double getCurrentRate() {
+        return requestLimiter.getRate();
+    }
+
+    private void applyScale(double newScale) {
+        scale = newScale;
+        requestLimiter.setRate(maxRequestsPerSecond * newScale);
+        characterLimiter.setRate(maxCharactersPerSecond * newScale);
     }
 }
@@ -0,0 +1,8 @@
+package util;
+
+import java.time.LocalDateTime;
+
+// 번역(원문 포함) 저장 후 검색 색인, 추천 후보 풀 갱신용
+public record TranslationSavedEvent(Long informationId, String language, String category, Long views,
+                                    LocalDateTime createdAt, String title, String content) {
+}
@@ -0,0 +1,45 @@
+-- information.created_at: ISO 문자열(LocalDateTime.toString) -> DATETIME(6)
+-- 정렬/기간 조건이 문자열 비교가 아니라 날짜 비교가 되고, 아래 복합 인덱스에서 바로 쓸 수 있다.
+-- 형식: yyyy-MM-ddTHH:mm[:ss[.fraction]] (초/소수점이 0이면 toString 에서 생략됨)
+UPDATE information
+SET created_at = CONCAT(created_at, ':00')
+WHERE created_at LIKE '____-__-__T__:__';
+
+UPDATE information
+SET created_at = REPLACE(LEFT(created_at, 26), 'T', ' ')
+WHERE created_at LIKE '%T%';
+
+-- 컬럼 타입 변경은 테이블 복사가 일어나므로 트래픽이 적을 때 적용
+ALTER TABLE information
+    MODIFY created_at DATETIME(6) NULL;
+
+-- 목록/커서: 카테고리별 최신순, 조회수순. '전체'는 카테고리 조건이 상수로 접혀서 단일 컬럼 인덱스 사용
+CREATE INDEX idx_information_category_created_at ON information (category, created_at);
+CREATE INDEX idx_information_category_views ON information (category, views);
+CREATE INDEX idx_information_created_at ON information (created_at);
+CREATE INDEX idx_information_views ON information (views);
+
+-- 번역: (게시글, 언어)당 한 행. 동시 저장으로 생긴 중복은 마지막 행만 남긴다
+DELETE older
+FROM translated_information older
+         JOIN translated_information newer
+              ON older.information_id = newer.information_id
+                  AND older.language = newer.language
+                  AND older.translated_information_id < newer.translated_information_id;
+
+ALTER TABLE translated_information
+    ADD CONSTRAINT uk_translated_information_information_language UNIQUE (information_id, language);
+
+-- 언어별 목록/검색에서 게시글로 조인할 때
+CREATE INDEX idx_translated_information_language ON translated_information (language, information_id);
+
+-- 북마크: (사용자, 게시글)당 한 행. 중복 클릭으로 생긴 행은 처음 것만 남긴다
+DELETE newer
+FROM bookmark newer
+         JOIN bookmark older
+              ON newer.user_id = older.user_id
+                  AND newer.information_id = older.information_id
+                  AND newer.bookmark_id > older.bookmark_id;
+
+ALTER TABLE bookmark
+    ADD CONSTRAINT uk_bookmark_user_information UNIQUE (user_id, information_id);
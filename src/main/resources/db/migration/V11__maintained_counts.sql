@@ -0,0 +1,27 @@
+-- 목록 total 용 카운터. 게시글 저장/삭제, 북마크 토글 트랜잭션에서 증감하고 주기적으로 다시 센다
+CREATE TABLE information_count
+(
+    category VARCHAR(255) NOT NULL PRIMARY KEY,
+    total    BIGINT       NOT NULL
+);
+
+CREATE TABLE bookmark_count
+(
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    total   BIGINT NOT NULL
+);
+
+INSERT INTO information_count (category, total)
+SELECT category, COUNT(*)
+FROM information
+WHERE category IS NOT NULL
+GROUP BY category;
+
+INSERT INTO information_count (category, total)
+SELECT '전체', COUNT(*)
+FROM information;
+
+INSERT INTO bookmark_count (user_id, total)
+SELECT user_id, COUNT(*)
+FROM bookmark
+GROUP BY user_id;
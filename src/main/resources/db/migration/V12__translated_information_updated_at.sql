@@ -0,0 +1,5 @@
+-- 번역 행 마지막 저장 시각. 다른 인스턴스의 검색 색인이 바뀐 행만 다시 읽는 기준
+ALTER TABLE translated_information
+    ADD COLUMN updated_at DATETIME(6) NULL;
+
+CREATE INDEX idx_translated_information_updated_at ON translated_information (updated_at, translated_information_id);
@@ -0,0 +1,48 @@
+-- 마이그레이션 도입 전 스키마. 기존 DB는 이 버전으로 baseline 되어 건너뛰고, 빈 DB에서만 실행된다
+CREATE TABLE `user`
+(
+    user_id  BIGINT       NOT NULL PRIMARY KEY,
+    name     VARCHAR(255) NULL,
+    nation   VARCHAR(255) NULL,
+    language VARCHAR(255) NULL,
+    role     VARCHAR(255) NULL,
+    address  VARCHAR(255) NULL
+);
+
+-- created_at 은 LocalDateTime.toString() 문자열 (V10 에서 DATETIME 으로 바뀜)
+CREATE TABLE information
+(
+    information_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id        BIGINT       NULL,
+    created_at     VARCHAR(255) NULL,
+    views          BIGINT       NULL,
+    category       VARCHAR(255) NULL,
+    CONSTRAINT fk_information_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE translated_information
+(
+    translated_information_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    information_id            BIGINT       NULL,
+    title                     VARCHAR(255) NULL,
+    content                   TEXT         NULL,
+    language                  VARCHAR(255) NULL,
+    CONSTRAINT fk_translated_information_information FOREIGN KEY (information_id) REFERENCES information (information_id)
+);
+
+CREATE TABLE bookmark
+(
+    bookmark_id    BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    information_id BIGINT NULL,
+    user_id        BIGINT NULL,
+    CONSTRAINT fk_bookmark_information FOREIGN KEY (information_id) REFERENCES information (information_id),
+    CONSTRAINT fk_bookmark_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+);
+
+CREATE TABLE information_file
+(
+    information_file_id BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    information_id      BIGINT       NULL,
+    url                 VARCHAR(255) NULL,
+    CONSTRAINT fk_information_file_information FOREIGN KEY (information_id) REFERENCES information (information_id)
+);
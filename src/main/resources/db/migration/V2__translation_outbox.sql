@@ -0,0 +1,18 @@
+-- 번역 작업 아웃박스. (게시글, 언어)당 한 행
+CREATE TABLE translation_outbox
+(
+    outbox_id       BIGINT        NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    information_id  BIGINT        NULL,
+    language        VARCHAR(255)  NULL,
+    status          VARCHAR(20)   NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6)   NULL,
+    claimed_at      DATETIME(6)   NULL,
+    last_error      VARCHAR(1000) NULL,
+    created_at      DATETIME(6)   NULL,
+    updated_at      DATETIME(6)   NULL,
+    CONSTRAINT uk_translation_outbox_information_language UNIQUE (information_id, language)
+);
+
+-- 워커가 가져갈 행 찾기 (status, next_attempt_at)
+CREATE INDEX idx_translation_outbox_status_next_attempt ON translation_outbox (status, next_attempt_at);
@@ -0,0 +1,9 @@
+-- 번역 메모리. source_hash = sha-256(원문, 원문 언어, 대상 언어)
+CREATE TABLE translation_memory
+(
+    source_hash     VARCHAR(64)  NOT NULL PRIMARY KEY,
+    source_lang     VARCHAR(255) NULL,
+    target_lang     VARCHAR(255) NULL,
+    translated_text TEXT         NULL,
+    created_at      DATETIME(6)  NULL
+);
@@ -0,0 +1,4 @@
+-- 번역할 때 사용한 원문(KO). 수정 시 바뀐 부분만 다시 번역한다. 기존 행은 비어 있어서 다음 수정 때 전체 번역
+ALTER TABLE translated_information
+    ADD COLUMN source_title   VARCHAR(255) NULL,
+    ADD COLUMN source_content TEXT         NULL;
@@ -0,0 +1,8 @@
+-- 우선순위 레인과 요청 revision. 이미 있던 행은 새 게시글 레인으로
+ALTER TABLE translation_outbox
+    ADD COLUMN lane     VARCHAR(20) NOT NULL DEFAULT 'NEW',
+    ADD COLUMN revision BIGINT      NOT NULL DEFAULT 0;
+
+-- 레인별로 가져가므로 인덱스에 lane 추가
+CREATE INDEX idx_translation_outbox_status_lane_next_attempt ON translation_outbox (status, lane, next_attempt_at);
+DROP INDEX idx_translation_outbox_status_next_attempt ON translation_outbox;
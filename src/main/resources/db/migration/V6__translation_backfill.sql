@@ -0,0 +1,15 @@
+-- 새 언어 백필 진행 상황. 재시작 후 last_information_id 다음부터 이어서 스캔한다
+CREATE TABLE translation_backfill
+(
+    backfill_id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    language            VARCHAR(255) NULL,
+    status              VARCHAR(20)  NULL,
+    last_information_id BIGINT       NULL,
+    scan_finished       BIT(1)       NOT NULL DEFAULT 0,
+    total_information   BIGINT       NOT NULL DEFAULT 0,
+    scanned             BIGINT       NOT NULL DEFAULT 0,
+    enqueued            BIGINT       NOT NULL DEFAULT 0,
+    started_at          DATETIME(6)  NULL,
+    updated_at          DATETIME(6)  NULL,
+    finished_at         DATETIME(6)  NULL
+);
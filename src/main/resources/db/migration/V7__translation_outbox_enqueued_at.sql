@@ -0,0 +1,3 @@
+-- 마지막 작성/수정 요청 시각 (요청부터 번역 저장까지 걸린 시간 측정용)
+ALTER TABLE translation_outbox
+    ADD COLUMN enqueued_at DATETIME(6) NULL;
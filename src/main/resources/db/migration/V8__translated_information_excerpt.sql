@@ -0,0 +1,4 @@
+-- 목록 미리보기용 평문 요약과 단어 수. 기존 행은 기동 시 TranslationService.fillMissingExcerpts 가 채운다
+ALTER TABLE translated_information
+    ADD COLUMN excerpt    VARCHAR(300) NULL,
+    ADD COLUMN word_count INT          NULL;
@@ -0,0 +1,3 @@
+-- 내용 버전 (ETag 용). 수정/번역 저장 때 1씩 올린다
+ALTER TABLE information
+    ADD COLUMN content_version BIGINT NOT NULL DEFAULT 0;
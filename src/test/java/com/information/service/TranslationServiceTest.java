@@ -0,0 +1,172 @@
+package com.information.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.information.entity.Information;
+import com.information.entity.TranslatedInformation;
+import com.information.repository.InformationRepository;
+import com.information.repository.TranslatedInformationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import util.TranslationMetrics;
+import util.TranslationRateLimiter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 수정 시 증분 번역: 바뀐 문장만 번역 API 로 보내고 나머지는 이전 번역을 재사용하는지
+ */
+class TranslationServiceTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private StubTranslationProvider provider;
+    private TranslatedInformationRepository translatedInformationRepository;
+    private TranslationService translationService;
+    private Information information;
+
+    @BeforeEach
+    void setUp() {
+        StubTranslationProvider stub = new StubTranslationProvider();
+        ReflectionTestUtils.setField(stub, "latencyMs", 0L);
+        ReflectionTestUtils.setField(stub, "jitterMs", 0L);
+        provider = spy(stub);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TranslationMemoryService translationMemoryService = mock(TranslationMemoryService.class);
+        when(translationMemoryService.lookup(anyList(), anyString(), anyString())).thenReturn(Map.of());
+        translatedInformationRepository = mock(TranslatedInformationRepository.class);
+
+        translationService = new TranslationService(provider, MAPPER,
+                new TranslationRateLimiter(meterRegistry, 1000, 1_000_000, 0.05, 0.5, 0.05),
+                new TranslationMetrics(meterRegistry, 20),
+                translationMemoryService, translatedInformationRepository,
+                mock(InformationRepository.class), mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(translationService, "maxBatchSegments", 128);
+        ReflectionTestUtils.setField(translationService, "maxBatchBytes", 30000);
+        ReflectionTestUtils.setField(translationService, "languageConfig", "KO:ko,EN:en");
+        translationService.loadLanguages();
+
+        information = Information.builder().informationId(1L).category("음식").views(0L).build();
+    }
+
+    @Test
+    void translatesOnlyChangedTextNodes() throws Exception {
+        TranslatedInformation source = row("KO", "제목", doc("첫 문장", "둘째 문장", "셋째 문장"));
+        TranslatedInformation previous = row("EN", "[en] 제목", doc("[en] 첫 문장", "[en] 옛 둘째 문장", "[en] 셋째 문장"));
+        previous.setSourceTitle("제목");
+        previous.setSourceContent(doc("첫 문장", "옛 둘째 문장", "셋째 문장"));
+        givenRows(source, previous);
+
+        assertThat(translationService.translateLanguage(1L, "EN")).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> sent = ArgumentCaptor.forClass(List.class);
+        verify(provider, times(1)).translate(sent.capture(), eq("ko"), eq("en"));
+        assertThat(sent.getValue()).containsExactly("둘째 문장");
+
+        assertThat(previous.getTitle()).isEqualTo("[en] 제목");
+        assertThat(texts(previous.getContent())).containsExactly("[en] 첫 문장", "[en] 둘째 문장", "[en] 셋째 문장");
+        assertThat(previous.getSourceContent()).isEqualTo(source.getContent());
+    }
+
+    @Test
+    void sendsTitleOnlyWhenTitleChanged() throws Exception {
+        String content = doc("첫 문장");
+        TranslatedInformation source = row("KO", "새 제목", content);
+        TranslatedInformation previous = row("EN", "[en] 제목", doc("[en] 첫 문장"));
+        previous.setSourceTitle("제목");
+        previous.setSourceContent(content);
+        givenRows(source, previous);
+
+        assertThat(translationService.translateLanguage(1L, "EN")).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> sent = ArgumentCaptor.forClass(List.class);
+        verify(provider).translate(sent.capture(), eq("ko"), eq("en"));
+        assertThat(sent.getValue()).containsExactly("새 제목");
+        assertThat(previous.getTitle()).isEqualTo("[en] 새 제목");
+        assertThat(texts(previous.getContent())).containsExactly("[en] 첫 문장");
+    }
+
+    @Test
+    void movedNodesAreReusedAndAddedNodesTranslated() throws Exception {
+        TranslatedInformation source = row("KO", "제목", doc("셋째 문장", "첫 문장", "새 문장"));
+        TranslatedInformation previous = row("EN", "[en] 제목", doc("[en] 첫 문장", "[en] 셋째 문장"));
+        previous.setSourceTitle("제목");
+        previous.setSourceContent(doc("첫 문장", "셋째 문장"));
+        givenRows(source, previous);
+
+        assertThat(translationService.translateLanguage(1L, "EN")).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> sent = ArgumentCaptor.forClass(List.class);
+        verify(provider).translate(sent.capture(), eq("ko"), eq("en"));
+        assertThat(sent.getValue()).containsExactly("새 문장");
+        assertThat(texts(previous.getContent())).containsExactly("[en] 셋째 문장", "[en] 첫 문장", "[en] 새 문장");
+    }
+
+    @Test
+    void unchangedSourceSkipsProvider() throws Exception {
+        String content = doc("첫 문장");
+        TranslatedInformation source = row("KO", "제목", content);
+        TranslatedInformation previous = row("EN", "[en] 제목", doc("[en] 첫 문장"));
+        previous.setSourceTitle("제목");
+        previous.setSourceContent(content);
+        givenRows(source, previous);
+
+        assertThat(translationService.translateLanguage(1L, "EN")).isTrue();
+
+        verify(provider, never()).translate(anyList(), anyString(), anyString());
+        verify(translatedInformationRepository, never()).save(any());
+    }
+
+    @Test
+    void firstTranslationSendsEverything() throws Exception {
+        TranslatedInformation source = row("KO", "제목", doc("첫 문장", "둘째 문장"));
+        givenRows(source, null);
+
+        assertThat(translationService.translateLanguage(1L, "EN")).isTrue();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> sent = ArgumentCaptor.forClass(List.class);
+        verify(provider).translate(sent.capture(), eq("ko"), eq("en"));
+        assertThat(sent.getValue()).containsExactly("제목", "첫 문장", "둘째 문장");
+    }
+
+    private void givenRows(TranslatedInformation source, TranslatedInformation previous) {
+        when(translatedInformationRepository.findByInformation_InformationIdAndLanguage(1L, "KO")).thenReturn(source);
+        when(translatedInformationRepository.findByInformation_InformationIdAndLanguage(1L, "EN")).thenReturn(previous);
+    }
+
+    private TranslatedInformation row(String language, String title, String content) {
+        return TranslatedInformation.builder()
+                .information(information)
+                .language(language)
+                .title(title)
+                .content(content)
+                .build();
+    }
+
+    // 에디터 JSON 과 같은 구조: 문단마다 text 노드 하나
+    private static String doc(String... sentences) throws Exception {
+        var root = MAPPER.createObjectNode().put("type", "doc");
+        var paragraphs = root.putArray("content");
+        for (String sentence : sentences) {
+            paragraphs.addObject().put("type", "paragraph")
+                    .putArray("content").addObject().put("type", "text").put("text", sentence);
+        }
+        return MAPPER.writeValueAsString(root);
+    }
+
+    private static List<String> texts(String content) throws Exception {
+        return MAPPER.readTree(content).findValuesAsText("text");
+    }
+}
@@ -0,0 +1,151 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 인코딩/디코딩, 잘못된 커서 거절, 같은 정렬 값에서 id 로 순서를 정하는지
+ */
+class InformationCursorTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 5, 1, 10, 15, 30, 123_456_000);
+
+    @Test
+    void latestCursorRoundTrips() {
+        String encoded = InformationCursor.after("latest", CREATED_AT, 7, 42).encode();
+
+        InformationCursor decoded = InformationCursor.decode("latest", encoded);
+
+        assertThat(decoded.isByViews()).isFalse();
+        assertThat(decoded.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(decoded.informationId()).isEqualTo(42);
+    }
+
+    @Test
+    void latestCursorKeepsWholeMinutes() {
+        // LocalDateTime.toString 은 초가 0이면 생략한다
+        LocalDateTime onTheMinute = LocalDateTime.of(2024, 5, 1, 10, 15);
+
+        InformationCursor decoded = InformationCursor.decode("latest",
+                InformationCursor.after("latest", onTheMinute, 0, 1).encode());
+
+        assertThat(decoded.createdAt()).isEqualTo(onTheMinute);
+    }
+
+    @Test
+    void viewsCursorRoundTrips() {
+        String encoded = InformationCursor.after("views", CREATED_AT, 1_234, 42).encode();
+
+        InformationCursor decoded = InformationCursor.decode("v", encoded);
+
+        assertThat(decoded.isByViews()).isTrue();
+        assertThat(decoded.views()).isEqualTo(1_234);
+        assertThat(decoded.informationId()).isEqualTo(42);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = InformationCursor.after("latest", CREATED_AT, 0, Long.MAX_VALUE - 1).encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void blankCursorStartsFromFirstPage() {
+        assertThat(InformationCursor.decode("latest", null)).isEqualTo(InformationCursor.first("latest"));
+        assertThat(InformationCursor.decode("views", " ")).isEqualTo(InformationCursor.first("views"));
+    }
+
+    @Test
+    void unknownSortFallsBackToLatest() {
+        assertThat(InformationCursor.first(null).isByViews()).isFalse();
+        assertThat(InformationCursor.first("popular").isByViews()).isFalse();
+        assertThat(InformationCursor.first("views").isByViews()).isTrue();
+    }
+
+    @Test
+    void rejectsCursorIssuedForAnotherSort() {
+        String viewsCursor = InformationCursor.after("views", CREATED_AT, 10, 42).encode();
+
+        assertThatThrownBy(() -> InformationCursor.decode("latest", viewsCursor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMalformedCursors() {
+        assertThatThrownBy(() -> InformationCursor.decode("latest", "not base64!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InformationCursor.decode("latest", raw("c|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InformationCursor.decode("latest", raw("c|yesterday|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InformationCursor.decode("latest", raw("c|2024-05-01T10:15|forty-two")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> InformationCursor.decode("views", raw("v|many|42")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsTamperedCursor() {
+        String encoded = InformationCursor.after("latest", CREATED_AT, 0, 42).encode();
+        // 앞 글자(정렬 구분)를 바꾸면 디코딩 결과가 정렬/형식 검사에 걸린다
+        String tampered = (encoded.charAt(0) == 'A' ? 'B' : 'A') + encoded.substring(1);
+
+        assertThatThrownBy(() -> InformationCursor.decode("latest", tampered))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void equalCreatedAtIsOrderedByIdDescending() {
+        InformationCursor cursor = InformationCursor.after("latest", CREATED_AT, 0, 42);
+
+        assertThat(cursor.precedes(CREATED_AT, 0, 41)).isTrue();
+        assertThat(cursor.precedes(CREATED_AT, 0, 42)).isFalse();
+        assertThat(cursor.precedes(CREATED_AT, 0, 43)).isFalse();
+        assertThat(cursor.precedes(CREATED_AT.minusNanos(1_000), 0, 99)).isTrue();
+        assertThat(cursor.precedes(CREATED_AT.plusNanos(1_000), 0, 1)).isFalse();
+    }
+
+    @Test
+    void equalViewsIsOrderedByIdDescending() {
+        InformationCursor cursor = InformationCursor.after("views", CREATED_AT, 100, 42);
+
+        assertThat(cursor.precedes(null, 100, 41)).isTrue();
+        assertThat(cursor.precedes(null, 100, 42)).isFalse();
+        assertThat(cursor.precedes(null, 100, 43)).isFalse();
+        assertThat(cursor.precedes(null, 99, 1_000)).isTrue();
+        assertThat(cursor.precedes(null, 101, 1)).isFalse();
+    }
+
+    @Test
+    void latestWithoutCreatedAtComparesIdOnly() {
+        InformationCursor cursor = InformationCursor.after("latest", CREATED_AT, 0, 42);
+
+        assertThat(cursor.precedes(null, 0, 41)).isTrue();
+        assertThat(cursor.precedes(null, 0, 42)).isFalse();
+    }
+
+    @Test
+    void firstCursorPrecedesEveryRow() {
+        assertThat(InformationCursor.first("latest").precedes(CREATED_AT, 0, Long.MAX_VALUE - 1)).isTrue();
+        assertThat(InformationCursor.first("views").precedes(null, Long.MAX_VALUE - 1, 1)).isTrue();
+    }
+
+    @Test
+    void decodedCursorOrdersTiesLikeTheOriginal() {
+        InformationCursor decoded = InformationCursor.decode("latest",
+                InformationCursor.after("latest", CREATED_AT, 0, 42).encode());
+
+        assertThat(decoded.precedes(CREATED_AT, 0, 41)).isTrue();
+        assertThat(decoded.precedes(CREATED_AT, 0, 42)).isFalse();
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,141 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포스팅 varint 인코딩, AND 교집합, 카테고리 필터, 압축 후 번호 재배치
+ */
+class InvertedIndexTest {
+
+    @Test
+    void findsDocumentsContainingEveryTerm() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "음식", 0, "KO", "서울 맛집", "비빔밥", false);
+        index.put(2, "음식", 0, "KO", "부산 맛집", "돼지국밥", false);
+        index.put(3, "여행", 0, "KO", "서울 야경", "남산", false);
+
+        assertThat(ids(index.search("서울 맛집", "KO", null, InvertedIndex.Order.LATEST))).containsExactly(1L);
+        assertThat(ids(index.search("맛집", "KO", null, InvertedIndex.Order.LATEST))).containsExactly(2L, 1L);
+        assertThat(index.search("대구 맛집", "KO", null, InvertedIndex.Order.LATEST)).isEmpty();
+    }
+
+    @Test
+    void filtersByCategory() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "음식", 0, "KO", "서울 맛집", "", false);
+        index.put(2, "여행", 0, "KO", "서울 야경", "", false);
+
+        assertThat(ids(index.search("서울", "KO", "여행", InvertedIndex.Order.LATEST))).containsExactly(2L);
+        assertThat(index.search("서울", "KO", "쇼핑", InvertedIndex.Order.LATEST)).isEmpty();
+    }
+
+    @Test
+    void decodesLargeGapsAndFrequencies() {
+        // 문서 번호 차이와 빈도가 한 바이트(127)를 넘어도 다음 항목을 제대로 읽는지
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "여행", 0, "EN", "seoul", "", false);
+        for (long id = 2; id <= 20_000; id++) {
+            index.put(id, "여행", 0, "EN", "filler" + id, "", false);
+        }
+        index.put(20_001, "여행", 0, "EN", "seoul", "seoul ".repeat(300), false);
+        index.put(20_002, "여행", 0, "EN", "seoul", "", false);
+
+        List<InvertedIndex.Hit> hits = index.search("seoul", "EN", null, InvertedIndex.Order.RELEVANCE);
+
+        assertThat(ids(hits)).containsExactly(20_001L, 20_002L, 1L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    void intersectsAcrossLongPostings() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 1_000; id++) {
+            String title = (id % 3 == 0 ? "coffee " : "") + (id % 5 == 0 ? "bakery" : "");
+            index.put(id, "음식", 0, "EN", title, "", false);
+        }
+
+        List<Long> ids = ids(index.search("coffee bakery", "EN", null, InvertedIndex.Order.LATEST));
+
+        assertThat(ids).hasSize(66).allMatch(id -> id % 15 == 0);
+        assertThat(ids.get(0)).isEqualTo(990L);
+    }
+
+    @Test
+    void ordersByViewsThenNewest() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "음식", 10, "KO", "맛집", "", false);
+        index.put(2, "음식", 30, "KO", "맛집", "", false);
+        index.put(3, "음식", 10, "KO", "맛집", "", false);
+
+        assertThat(ids(index.search("맛집", "KO", null, InvertedIndex.Order.VIEWS))).containsExactly(2L, 3L, 1L);
+
+        index.updateViews(1, 50);
+        assertThat(ids(index.search("맛집", "KO", null, InvertedIndex.Order.VIEWS))).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void keepsLargestViewCountAndIgnoresRemovedDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "음식", 10, "KO", "맛집", "", false);
+        index.updateViews(1, 40);
+        index.updateViews(1, 20); // 늦게 도착한 옛 값
+        index.put(1, "음식", 15, "KO", "맛집 추천", "", false); // DB 에서 읽은 값이 메모리보다 뒤처진 경우
+
+        assertThat(index.search("맛집", "KO", null, InvertedIndex.Order.VIEWS).get(0).views()).isEqualTo(40L);
+
+        index.remove(1);
+        index.updateViews(1, 99);
+        index.put(1, "음식", 5, "KO", "맛집", "", false);
+        assertThat(index.search("맛집", "KO", null, InvertedIndex.Order.VIEWS).get(0).views()).isEqualTo(5L);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "음식", 0, "KO", "서울 맛집", "", false);
+        index.put(1, "음식", 0, "KO", "부산 맛집", "", false);
+        index.put(1, "음식", 0, "KO", "대구 맛집", "", true); // ifAbsent 는 기존 글을 건너뜀
+
+        assertThat(index.search("서울", "KO", null, InvertedIndex.Order.LATEST)).isEmpty();
+        assertThat(ids(index.search("부산", "KO", null, InvertedIndex.Order.LATEST))).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.search("부산", "KO", null, InvertedIndex.Order.LATEST)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void remapsDocumentsWhenCompacting() {
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 3_000; id++) {
+            index.put(id, id % 2 == 0 ? "음식" : "여행", id, "KO", "맛집 " + (id % 10 == 0 ? "추천" : ""), "", false);
+        }
+        // 지운 문서가 1000개를 넘고 남은 문서의 1/4 을 넘으면 압축된다
+        for (long id = 1; id <= 2_500; id++) {
+            index.remove(id);
+        }
+
+        assertThat(index.size()).isEqualTo(500);
+        List<Long> recommended = ids(index.search("맛집 추천", "KO", null, InvertedIndex.Order.LATEST));
+        assertThat(recommended).hasSize(50).allMatch(id -> id > 2_500 && id % 10 == 0);
+        assertThat(ids(index.search("추천", "KO", "여행", InvertedIndex.Order.LATEST))).isEmpty();
+
+        // 압축 후에도 글 id -> 문서 번호 매핑이 맞아야 조회수 갱신/삭제가 제 글에 적용된다
+        index.updateViews(2_510, 1_000_000);
+        assertThat(index.search("추천", "KO", null, InvertedIndex.Order.VIEWS).get(0).informationId())
+                .isEqualTo(2_510L);
+        index.remove(3_000);
+        assertThat(ids(index.search("추천", "KO", null, InvertedIndex.Order.LATEST))).doesNotContain(3_000L);
+
+        index.put(3_001, "음식", 0, "KO", "맛집 추천", "", false);
+        assertThat(ids(index.search("맛집 추천", "KO", null, InvertedIndex.Order.LATEST)).get(0)).isEqualTo(3_001L);
+    }
+
+    private static List<Long> ids(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::informationId).toList();
+    }
+}
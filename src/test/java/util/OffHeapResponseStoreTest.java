@@ -0,0 +1,245 @@
+package util;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 앞부분 + suffix 응답 (무압축/gzip 이어 붙이기), 무효화 세대 확인, LRU 비우기, 응답 중인 항목의 페이지 붙잡기
+ */
+class OffHeapResponseStoreTest {
+    private static final byte[] SUFFIX = ",\"views\":12,\"isState\":1}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void writesPrefixAndSuffixUncompressed() throws IOException {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 16 * 1024, true, 60_000);
+        byte[] prefix = prefix(1, 1_000);
+        assertThat(store.put(1L, prefix, store.generation(1L))).isTrue();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(store.writeTo(1L, SUFFIX, false, response)).isTrue();
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(concat(prefix, SUFFIX));
+        assertThat(response.getContentLengthLong()).isEqualTo(prefix.length + SUFFIX.length);
+    }
+
+    @Test
+    void gzipSpliceDecompressesToPrefixAndSuffix() throws IOException {
+        // 전송 버퍼(8KB)와 페이지보다 큰 앞부분
+        OffHeapResponseStore store = new OffHeapResponseStore(1024 * 1024, 4096, 256 * 1024, true, 60_000);
+        byte[] prefix = prefix(1, 50_000);
+        store.put(1L, prefix, store.generation(1L));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(store.writeTo(1L, SUFFIX, true, response)).isTrue();
+
+        byte[] body = response.getContentAsByteArray();
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getContentLengthLong()).isEqualTo(body.length);
+        // GZIPInputStream 이 끝에서 CRC32 와 ISIZE 를 검사한다
+        assertThat(gunzip(body)).isEqualTo(concat(prefix, SUFFIX));
+    }
+
+    @Test
+    void gzipSpliceHandlesEmptySuffixAndNonAscii() throws IOException {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 16 * 1024, true, 60_000);
+        byte[] prefix = "{\"title\":\"서울 맛집 🍜\"".getBytes(StandardCharsets.UTF_8);
+        store.put(1L, prefix, store.generation(1L));
+
+        MockHttpServletResponse empty = new MockHttpServletResponse();
+        store.writeTo(1L, new byte[0], true, empty);
+        assertThat(gunzip(empty.getContentAsByteArray())).isEqualTo(prefix);
+
+        byte[] suffix = ",\"name\":\"홍길동\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.writeTo(1L, suffix, true, response);
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(concat(prefix, suffix));
+    }
+
+    @Test
+    void servesIdentityWhenGzipIsDisabled() throws IOException {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 16 * 1024, false, 60_000);
+        byte[] prefix = prefix(1, 100);
+        store.put(1L, prefix, store.generation(1L));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        store.writeTo(1L, SUFFIX, true, response);
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(concat(prefix, SUFFIX));
+    }
+
+    @Test
+    void rejectsPutAfterInvalidation() throws IOException {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 16 * 1024, true, 60_000);
+        long generation = store.generation(1L);
+        store.invalidate(1L); // 내용을 읽는 사이 수정됨
+
+        assertThat(store.put(1L, prefix(1, 100), generation)).isFalse();
+        assertThat(store.writeTo(1L, SUFFIX, false, new MockHttpServletResponse())).isFalse();
+        assertThat(store.put(1L, prefix(1, 100), store.generation(1L))).isTrue();
+    }
+
+    @Test
+    void invalidateReleasesPages() throws IOException {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 16 * 1024, true, 60_000);
+        store.put(1L, prefix(1, 1_000), store.generation(1L));
+        store.put(2L, prefix(2, 1_000), store.generation(2L));
+
+        store.invalidateIf(key -> (Long) key == 1L);
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.writeTo(1L, SUFFIX, false, new MockHttpServletResponse())).isFalse();
+        assertThat(store.writeTo(2L, SUFFIX, false, new MockHttpServletResponse())).isTrue();
+
+        store.invalidate(2L);
+        assertThat(store.size()).isZero();
+        assertThat(store.usedBytes()).isZero();
+    }
+
+    @Test
+    void rejectsEntriesOverTheLimit() {
+        OffHeapResponseStore store = new OffHeapResponseStore(64 * 1024, 256, 1_000, true, 60_000);
+
+        assertThat(store.put(1L, prefix(1, 2_000), store.generation(1L))).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() throws IOException {
+        // 한 페이지짜리 항목 네 개가 꽉 채우는 크기
+        OffHeapResponseStore store = new OffHeapResponseStore(4 * 256, 256, 256, false, 60_000);
+        for (long key = 1; key <= 4; key++) {
+            assertThat(store.put(key, prefix(key, 100), store.generation(key))).isTrue();
+        }
+        store.writeTo(1L, SUFFIX, false, new MockHttpServletResponse()); // 1 을 최근에 씀
+
+        assertThat(store.put(5L, prefix(5, 100), store.generation(5L))).isTrue();
+
+        assertThat(store.size()).isEqualTo(4);
+        assertThat(store.writeTo(2L, SUFFIX, false, new MockHttpServletResponse())).isFalse();
+        for (long key : new long[]{1, 3, 4, 5}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            assertThat(store.writeTo(key, SUFFIX, false, response)).isTrue();
+            assertThat(response.getContentAsByteArray()).isEqualTo(concat(prefix(key, 100), SUFFIX));
+        }
+    }
+
+    @Test
+    void keepsPagesOfEntryBeingWrittenUntilTheResponseEnds() throws IOException {
+        // 16 페이지 중 10 페이지짜리 항목을 쓰는 도중에 무효화하고 다른 항목들로 채운다 (잠금을 잡은 채 쓰면 여기서 멈춘다)
+        OffHeapResponseStore store = new OffHeapResponseStore(16 * 256, 256, 4 * 1024, false, 60_000);
+        byte[] prefix = prefix(1, 1_500);
+        store.put(1L, prefix, store.generation(1L));
+
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            private boolean replaced;
+
+            @Override
+            public ServletOutputStream getOutputStream() {
+                ServletOutputStream out = super.getOutputStream();
+                return new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        out.write(b);
+                    }
+
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        if (!replaced) {
+                            replaced = true;
+                            store.invalidate(1L);
+                            for (long key = 2; key <= 5; key++) {
+                                store.put(key, prefix(key, 900), store.generation(key));
+                            }
+                        }
+                        out.write(bytes, offset, length);
+                    }
+                };
+            }
+        };
+
+        assertThat(store.writeTo(1L, SUFFIX, false, response)).isTrue();
+        assertThat(response.getContentAsByteArray()).isEqualTo(concat(prefix, SUFFIX));
+        // 다 쓰고 나면 페이지가 반납돼서 마지막 항목(6 페이지)만 남는다
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.usedBytes()).isEqualTo(6 * 256);
+    }
+
+    @Test
+    void concurrentReadsSeeWholeEntriesWhileEvicting() throws Exception {
+        // 여덟 항목 중 절반만 들어가는 크기라 읽는 동안 계속 비우고 다시 채운다
+        OffHeapResponseStore store = new OffHeapResponseStore(16 * 1024, 256, 4 * 1024, true, 60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        long key = (seed + i) % 8;
+                        boolean gzip = i % 2 == 0;
+                        MockHttpServletResponse response = new MockHttpServletResponse();
+                        if (!store.writeTo(key, SUFFIX, gzip, response)) {
+                            store.put(key, prefix(key, 1_500), store.generation(key));
+                            continue;
+                        }
+                        byte[] body = response.getContentAsByteArray();
+                        assertThat(gzip ? gunzip(body) : body).isEqualTo(concat(prefix(key, 1_500), SUFFIX));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static byte[] prefix(long key, int length) {
+        StringBuilder builder = new StringBuilder("{\"informationId\":").append(key).append(",\"content\":\"");
+        for (int i = 0; builder.length() < length; i++) {
+            builder.append("문단").append(key * 31 + i).append(' ');
+        }
+        builder.append('"');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한중일 2글자 조각, 단어 분리, 언어별 어미 자르기
+ */
+class SearchTokenizerTest {
+
+    @Test
+    void splitsKoreanIntoOverlappingBigrams() {
+        assertThat(SearchTokenizer.tokenize("맛집추천", "KO")).containsExactly("맛집", "집추", "추천");
+    }
+
+    @Test
+    void splitsJapaneseAndChineseIntoBigrams() {
+        assertThat(SearchTokenizer.tokenize("東京タワー", "JA")).containsExactly("東京", "京タ", "タワ", "ワー");
+        assertThat(SearchTokenizer.tokenize("北京烤鸭", "ZH")).containsExactly("北京", "京烤", "烤鸭");
+    }
+
+    @Test
+    void bigramsDoNotCrossSpacesOrLatinWords() {
+        assertThat(SearchTokenizer.tokenize("서울 맛집abc카페", "KO")).containsExactly("서울", "맛집", "abc", "카페");
+    }
+
+    @Test
+    void keepsSingleCjkCharacterAsIs() {
+        assertThat(SearchTokenizer.tokenize("세", "KO")).containsExactly("세");
+    }
+
+    @Test
+    void detectsSingleCjkCharacters() {
+        assertThat(SearchTokenizer.hasSingleCjk("세")).isTrue();
+        assertThat(SearchTokenizer.hasSingleCjk("세 계획")).isTrue();
+        assertThat(SearchTokenizer.hasSingleCjk("맛집 a")).isFalse();
+        assertThat(SearchTokenizer.hasSingleCjk("세계")).isFalse();
+        assertThat(SearchTokenizer.hasSingleCjk("a b")).isFalse();
+        assertThat(SearchTokenizer.hasSingleCjk(null)).isFalse();
+    }
+
+    @Test
+    void normalizesWidthAndCase() {
+        assertThat(SearchTokenizer.tokenize("ＡＢＣ Seoul", "KO")).containsExactly("abc", "seoul");
+    }
+
+    @Test
+    void stemsCommonEnglishSuffixes() {
+        assertThat(SearchTokenizer.tokenize("Running translations quickly", "EN"))
+                .containsExactly("runn", "transl", "quick");
+        // 같은 어간이면 질의와 문서가 만난다
+        assertThat(SearchTokenizer.stem("restaurants", "EN")).isEqualTo(SearchTokenizer.stem("restaurant", "EN"));
+    }
+
+    @Test
+    void keepsShortStems() {
+        // 어미를 잘라서 3글자보다 짧아지면 그대로
+        assertThat(SearchTokenizer.stem("is", "EN")).isEqualTo("is");
+        assertThat(SearchTokenizer.stem("bed", "EN")).isEqualTo("bed");
+    }
+
+    @Test
+    void stemsOtherLanguages() {
+        assertThat(SearchTokenizer.stem("übersetzungen", "DE")).isEqualTo("übersetz");
+        assertThat(SearchTokenizer.stem("restaurantes", "ES")).isEqualTo("restaurant");
+    }
+
+    @Test
+    void leavesLanguagesWithoutRulesUnstemmed() {
+        assertThat(SearchTokenizer.tokenize("restaurants", "VI")).containsExactly("restaurants");
+    }
+
+    @Test
+    void ignoresBlankText() {
+        assertThat(SearchTokenizer.tokenize(null, "KO")).isEmpty();
+        assertThat(SearchTokenizer.tokenize("  ", "KO")).isEmpty();
+    }
+}